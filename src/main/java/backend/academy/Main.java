@@ -2,45 +2,84 @@ package backend.academy;
 
 import config.Config;
 import config.Configuration;
-import heightmap.HeightMapProviderFactory;
-import heightmap.providers.HeightMapProvider;
 import java.awt.Color;
 import lombok.experimental.UtilityClass;
 import maze.Maze;
 import maze.MazeFactory;
+import maze.MazeSpec;
+import maze.generator.RowSink;
+import maze.io.MazeFile;
+import maze.io.MazeFileWriter;
 import util.OutputHandler;
+import visuals.MazeTextRenderer;
 import visuals.MazeVisualizer;
 
 @UtilityClass
 public class Main {
+    private static final String SEED_LABEL = "Seed: ";
+
     public static void main(String[] args) {
         Configuration config = Config.getInstance();
 
-        HeightMapProvider heightMapProvider = HeightMapProviderFactory.createProvider(
-            config.surface().type(),
-            config.surface().heightRange()
-        );
-
-        Maze maze = MazeFactory.createSolvedMaze(
-            config.maze().width(),
-            config.maze().height(),
-            heightMapProvider,
-            config.generator().type(),
-            config.solver().type(),
-            config.costFunc().type()
-        );
-
-        OutputHandler.println("Solution cost with " + config.costFunc().type() + ": " + maze.solution().totalCost());
-        OutputHandler.println("Solution length: " + maze.solution().path().size());
-
-        if (config.visuals().console()) {
-            OutputHandler.println(maze.getMazeAsString());
+        if (config.file().load().isEmpty() && config.generator().stream()) {
+            streamMaze(config);
+            return;
         }
 
-        if (config.visuals().image()) {
-            MazeVisualizer visualizer = new MazeVisualizer(maze, config.visuals().cellSize());
-            visualizer.drawSolution(maze.solution(), Color.BLUE);
-            visualizer.saveImage(config.visuals().filename());
+        try (Maze maze = createMaze(config)) {
+            if (!config.file().save().isEmpty()) {
+                MazeFile.write(maze.grid(), maze.seed(), config.file().save());
+            }
+
+            OutputHandler.println(
+                "Solution cost with " + config.costFunc().type() + ": " + maze.solution().totalCost());
+            OutputHandler.println("Solution length: " + maze.solution().path().size());
+            if (maze.solution().expandedNodes() > 0) {
+                OutputHandler.println("Expanded nodes: " + maze.solution().expandedNodes());
+            }
+
+            if (config.visuals().console()) {
+                OutputHandler.println(maze.getMazeAsString());
+            }
+
+            if (config.visuals().image()) {
+                MazeVisualizer visualizer = new MazeVisualizer(maze, config.visuals().cellSize());
+                visualizer.drawSolution(maze.solution(), Color.BLUE);
+                visualizer.saveImage(config.visuals().filename());
+            }
         }
     }
+
+    // Streamed mazes are never held in memory, so they can only be saved and printed as their rows are generated
+    private static void streamMaze(Configuration config) {
+        MazeSpec spec = MazeSpec.fromConfig(config);
+        long seed = MazeFactory.seedOf(spec);
+        OutputHandler.println(SEED_LABEL + seed);
+
+        RowSink console = config.visuals().console()
+            ? new MazeTextRenderer(spec.maze().width())
+            : (row, walls) -> { };
+        if (config.file().save().isEmpty()) {
+            MazeFactory.streamMaze(spec, seed, console);
+            return;
+        }
+        try (MazeFileWriter writer =
+                 MazeFile.writer(spec.maze().width(), spec.maze().height(), seed, config.file().save())) {
+            MazeFactory.streamMaze(spec, seed, writer.andThen(console));
+        }
+    }
+
+    private static Maze createMaze(Configuration config) {
+        if (!config.file().load().isEmpty()) {
+            return MazeFactory.loadSolvedMaze(
+                config.file().load(),
+                config.solver().type(),
+                config.costFunc().type()
+            );
+        }
+
+        Maze maze = MazeFactory.createSolvedMaze(MazeSpec.fromConfig(config));
+        OutputHandler.println(SEED_LABEL + maze.seed());
+        return maze;
+    }
 }
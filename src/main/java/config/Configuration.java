@@ -7,7 +7,7 @@ import org.tomlj.TomlParseResult;
  * Record that holds various configuration sections.
  */
 public record Configuration(MazeConfig maze, VisualsConfig visuals, GeneratorConfig generator, SurfaceConfig surface,
-                            SolverConfig solver, CostFuncConfig costFunc, PerlinConfig perlin) {
+                            SolverConfig solver, CostFuncConfig costFunc, PerlinConfig perlin, FileConfig file) {
 
     /**
      * Parses the TOML configuration into a {@link Configuration} object.
@@ -23,6 +23,7 @@ public record Configuration(MazeConfig maze, VisualsConfig visuals, GeneratorCon
         SolverConfig solverConfig = SolverConfig.fromToml(Objects.requireNonNull(toml.getTable("solver")));
         CostFuncConfig costFuncConfig = CostFuncConfig.fromToml(Objects.requireNonNull(toml.getTable("costfunc")));
         PerlinConfig perlinConfig = PerlinConfig.fromToml(Objects.requireNonNull(toml.getTable("perlin")));
+        FileConfig fileConfig = FileConfig.fromToml(Objects.requireNonNull(toml.getTable("file")));
 
         return new Configuration(
             mazeConfig,
@@ -31,7 +32,8 @@ public record Configuration(MazeConfig maze, VisualsConfig visuals, GeneratorCon
             surfaceConfig,
             solverConfig,
             costFuncConfig,
-            perlinConfig
+            perlinConfig,
+            fileConfig
         );
     }
 }
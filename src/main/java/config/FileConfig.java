@@ -0,0 +1,43 @@
+package config;
+
+import java.util.Objects;
+import org.tomlj.TomlTable;
+
+/**
+ * Configuration class for binary maze file and heightmap file settings.
+ */
+public record FileConfig(String load, String save, String heightmap, int heightmapWidth, int heightmapHeight) {
+
+    /**
+     * Validates and initializes the file settings.
+     *
+     * @param load the file to load the maze from, empty to generate a new maze
+     * @param save the file to save the maze to, empty to skip saving
+     * @param heightmap the heightmap file read by file surfaces, empty if none
+     * @param heightmapWidth the number of samples per row of a raw heightmap file
+     * @param heightmapHeight the number of rows of a raw heightmap file
+     */
+    public FileConfig {
+        Objects.requireNonNull(load, "Load path cannot be null");
+        Objects.requireNonNull(save, "Save path cannot be null");
+        Objects.requireNonNull(heightmap, "Heightmap path cannot be null");
+        if (heightmapWidth < 0 || heightmapHeight < 0) {
+            throw new IllegalArgumentException("Heightmap dimensions must be non-negative");
+        }
+    }
+
+    /**
+     * Parses the TOML configuration into a {@link FileConfig}.
+     *
+     * @param toml the TOML table containing file settings
+     * @return the populated {@link FileConfig}
+     */
+    public static FileConfig fromToml(TomlTable toml) {
+        String load = Objects.requireNonNull(toml.getString("load"));
+        String save = Objects.requireNonNull(toml.getString("save"));
+        String heightmap = Objects.requireNonNull(toml.getString("heightmap"));
+        int heightmapWidth = ((Number) Objects.requireNonNull(toml.get("heightmap_width"))).intValue();
+        int heightmapHeight = ((Number) Objects.requireNonNull(toml.get("heightmap_height"))).intValue();
+        return new FileConfig(load, save, heightmap, heightmapWidth, heightmapHeight);
+    }
+}
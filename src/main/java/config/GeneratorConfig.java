@@ -7,17 +7,25 @@ import org.tomlj.TomlTable;
 /**
  * Configuration class for maze generator settings.
  */
-public record GeneratorConfig(GeneratorType type, double loopProbability) {
+public record GeneratorConfig(GeneratorType type, double loopProbability, int tileSize, boolean stream) {
 
     /**
      * Validates and initializes the configuration.
      *
      * @param loopProbability the probability of loops in the maze
+     * @param tileSize the size of tiles generated in parallel, or 0 to generate the whole maze at once
+     * @param stream whether the maze is streamed row by row instead of being built as a grid
      */
     public GeneratorConfig {
         if (loopProbability < 0.0 || loopProbability > 1.0) {
             throw new IllegalArgumentException("Loop probability must be in [0, 1].");
         }
+        if (tileSize < 0) {
+            throw new IllegalArgumentException("Tile size must not be negative.");
+        }
+        if (stream && (type != GeneratorType.ELLER || tileSize != 0)) {
+            throw new IllegalArgumentException("Only ELLER without tiles can stream mazes.");
+        }
     }
 
     /**
@@ -30,6 +38,8 @@ public record GeneratorConfig(GeneratorType type, double loopProbability) {
         String typeStr = Objects.requireNonNull(toml.getString("type"));
         GeneratorType type = GeneratorType.fromString(typeStr);
         double loopProbability = Objects.requireNonNull(toml.getDouble("loop_probability"));
-        return new GeneratorConfig(type, loopProbability);
+        int tileSize = ((Number) Objects.requireNonNull(toml.get("tile_size"))).intValue();
+        boolean stream = Objects.requireNonNull(toml.getBoolean("stream"));
+        return new GeneratorConfig(type, loopProbability, tileSize, stream);
     }
 }
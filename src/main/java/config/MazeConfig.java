@@ -1,18 +1,21 @@
 package config;
 
 import java.util.Objects;
+import maze.grid.StorageType;
 import org.tomlj.TomlTable;
 
 /**
- * Configuration class for maze dimensions.
+ * Configuration class for maze dimensions, storage and the random seed.
  */
-public record MazeConfig(int height, int width) {
+public record MazeConfig(int height, int width, StorageType storage, long seed) {
 
     /**
      * Validates and initializes the maze dimensions.
      *
      * @param height the height of the maze
      * @param width the width of the maze
+     * @param storage the storage backend of the maze grid
+     * @param seed the seed of every random choice made while building the maze, or 0 to pick one at random
      */
     public MazeConfig {
         if (height <= 0) {
@@ -21,17 +24,20 @@ public record MazeConfig(int height, int width) {
         if (width <= 0) {
             throw new IllegalArgumentException("Maze width must be positive.");
         }
+        Objects.requireNonNull(storage, "Storage type cannot be null");
     }
 
     /**
      * Parses the TOML configuration into a {@link MazeConfig}.
      *
-     * @param toml the TOML table containing maze dimension settings
+     * @param toml the TOML table containing maze settings
      * @return the populated {@link MazeConfig}
      */
     public static MazeConfig fromToml(TomlTable toml) {
         int height = ((Number) Objects.requireNonNull(toml.get("height"))).intValue();
         int width = ((Number) Objects.requireNonNull(toml.get("width"))).intValue();
-        return new MazeConfig(height, width);
+        StorageType storage = StorageType.fromString(Objects.requireNonNull(toml.getString("storage")));
+        long seed = Objects.requireNonNull(toml.getLong("seed"));
+        return new MazeConfig(height, width, storage, seed);
     }
 }
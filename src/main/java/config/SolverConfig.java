@@ -6,8 +6,12 @@ import org.tomlj.TomlTable;
 
 /**
  * Configuration class for solver settings.
+ *
+ * @param type     the solver type
+ * @param parallel whether solvers that support it may use several threads for one solve
+ * @param implicit whether solvers that support it compute edges from the grid instead of building a graph
  */
-public record SolverConfig(SolverType type) {
+public record SolverConfig(SolverType type, boolean parallel, boolean implicit) {
 
     /**
      * Parses the TOML configuration into a {@link SolverConfig}.
@@ -18,6 +22,8 @@ public record SolverConfig(SolverType type) {
     public static SolverConfig fromToml(TomlTable toml) {
         String typeStr = Objects.requireNonNull(toml.getString("type"));
         SolverType type = SolverType.fromString(typeStr);
-        return new SolverConfig(type);
+        boolean parallel = Objects.requireNonNull(toml.getBoolean("parallel"));
+        boolean implicit = Objects.requireNonNull(toml.getBoolean("implicit"));
+        return new SolverConfig(type, parallel, implicit);
     }
 }
@@ -7,17 +7,22 @@ import org.tomlj.TomlTable;
 /**
  * Configuration class for surface generation settings.
  */
-public record SurfaceConfig(ProviderType type, int heightRange) {
+public record SurfaceConfig(ProviderType type, int heightRange, int parallelThreshold, boolean lazy) {
 
     /**
      * Validates and initializes the surface generation settings.
      *
      * @param heightRange the height range for the surface
+     * @param parallelThreshold the number of cells from which the surface is filled on all cores, or 0 for never
+     * @param lazy whether heights are computed when first read instead of filled up front
      */
     public SurfaceConfig {
         if (heightRange <= 0) {
             throw new IllegalArgumentException("Height range must be a positive integer");
         }
+        if (parallelThreshold < 0) {
+            throw new IllegalArgumentException("Parallel threshold must be non-negative");
+        }
         Objects.requireNonNull(type, "Provider type cannot be null");
     }
 
@@ -31,6 +36,8 @@ public record SurfaceConfig(ProviderType type, int heightRange) {
         String typeStr = Objects.requireNonNull(toml.getString("type"));
         ProviderType type = ProviderType.fromString(typeStr);
         int heightRange = ((Number) Objects.requireNonNull(toml.get("height_range"))).intValue();
-        return new SurfaceConfig(type, heightRange);
+        int parallelThreshold = ((Number) Objects.requireNonNull(toml.get("parallel_threshold"))).intValue();
+        boolean lazy = Objects.requireNonNull(toml.getBoolean("lazy"));
+        return new SurfaceConfig(type, heightRange, parallelThreshold, lazy);
     }
 }
@@ -1,10 +1,16 @@
 package heightmap;
 
+import heightmap.params.HeightFileParams;
 import heightmap.params.PerlinNoiseParams;
 import heightmap.providers.HeightMapProvider;
 import heightmap.providers.PerlinNoiseHMProvider;
+import heightmap.providers.PngFileHMProvider;
 import heightmap.providers.ProviderType;
 import heightmap.providers.RandomHMProvider;
+import heightmap.providers.RawFileHMProvider;
+import heightmap.providers.SimplexNoiseHMProvider;
+import heightmap.providers.VectorPerlinNoiseHMProvider;
+import java.util.SplittableRandom;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -18,16 +24,20 @@ public class HeightMapProviderFactory {
      * Creates and returns a HeightMapProvider instance based on the specified
      * provider type and height range.
      *
-     * @param type        The type of heightmap provider
-     * @param heightRange The range of heights for the heightmap
+     * @param type              The type of heightmap provider
+     * @param heightRange       The range of heights for the heightmap
+     * @param parallelThreshold The number of cells from which the map is filled on all cores, or 0 for never
+     * @param random            The random number generator the provider draws from
      * @return A HeightMapProvider instance corresponding to the specified type
      */
     public static HeightMapProvider createProvider(
         ProviderType type,
-        int heightRange
+        int heightRange,
+        int parallelThreshold,
+        SplittableRandom random
     ) {
         return switch (type) {
-            case RANDOM -> new RandomHMProvider(heightRange);
+            case RANDOM -> new RandomHMProvider(heightRange, parallelThreshold, random);
             case PERLIN_NOISE -> {
                 PerlinNoiseParams params = new PerlinNoiseParams(heightRange);
                 yield new PerlinNoiseHMProvider(
@@ -35,9 +45,49 @@ public class HeightMapProviderFactory {
                     params.octaves(),
                     params.persistence(),
                     params.lacunarity(),
-                    params.heightRange()
+                    params.heightRange(),
+                    parallelThreshold,
+                    random
                 );
             }
+            case VECTOR_PERLIN_NOISE -> {
+                PerlinNoiseParams params = new PerlinNoiseParams(heightRange);
+                yield new VectorPerlinNoiseHMProvider(
+                    params.scale(),
+                    params.octaves(),
+                    params.persistence(),
+                    params.lacunarity(),
+                    params.heightRange(),
+                    parallelThreshold,
+                    random
+                );
+            }
+            case SIMPLEX_NOISE -> {
+                PerlinNoiseParams params = new PerlinNoiseParams(heightRange);
+                yield new SimplexNoiseHMProvider(
+                    params.scale(),
+                    params.octaves(),
+                    params.persistence(),
+                    params.lacunarity(),
+                    params.heightRange(),
+                    parallelThreshold,
+                    random
+                );
+            }
+            case RAW_FILE -> {
+                HeightFileParams params = new HeightFileParams(heightRange);
+                yield new RawFileHMProvider(
+                    params.file(),
+                    params.width(),
+                    params.height(),
+                    params.heightRange(),
+                    parallelThreshold
+                );
+            }
+            case PNG_FILE -> {
+                HeightFileParams params = new HeightFileParams(heightRange);
+                yield new PngFileHMProvider(params.file(), params.heightRange());
+            }
         };
     }
 }
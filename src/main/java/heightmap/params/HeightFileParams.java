@@ -0,0 +1,53 @@
+package heightmap.params;
+
+import config.Config;
+import config.FileConfig;
+import java.nio.file.Path;
+import lombok.Getter;
+import util.PathResolver;
+
+/**
+ * HeightFileParams is a class that defines parameters used for reading
+ * a heightmap from a file. It extends the ProviderParams class.
+ * The parameters include the file and, for raw files that have no header,
+ * the number of samples per row and of rows.
+ */
+@Getter
+public class HeightFileParams extends ProviderParams {
+    private final Path file;    // Heightmap file
+    private final int width;    // Samples per row of a raw file
+    private final int height;   // Rows of a raw file
+
+    /**
+     * Constructor to initialize the HeightFileParams with custom values.
+     *
+     * @param heightRange Range of heights for the heightmap
+     * @param file        Heightmap file
+     * @param width       Samples per row of a raw file
+     * @param height      Rows of a raw file
+     */
+    public HeightFileParams(int heightRange, Path file, int width, int height) {
+        super(heightRange);
+        this.file = file;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Constructor to initialize the HeightFileParams with default values
+     * from the configuration.
+     *
+     * @param heightRange Range of heights for the heightmap
+     * @throws IllegalArgumentException if no heightmap file is configured
+     */
+    public HeightFileParams(int heightRange) {
+        super(heightRange);
+        FileConfig config = Config.getInstance().file();
+        if (config.heightmap().isEmpty()) {
+            throw new IllegalArgumentException("File surfaces need a heightmap file in the file settings.");
+        }
+        this.file = PathResolver.resolve(config.heightmap());
+        this.width = config.heightmapWidth();
+        this.height = config.heightmapHeight();
+    }
+}
@@ -0,0 +1,191 @@
+package heightmap.providers;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import maze.grid.MazeGrid;
+
+/**
+ * AbstractNoiseHMProvider is the base of heightmap providers that sum several octaves of a gradient noise.
+ * It holds the noise parameters and a seeded permutation of 0 to 255 for hashing lattice points, and fills the
+ * grid by rows, on all cores for large grids. Heights can also be computed one cell at a time with
+ * {@link #heightAt}. Subclasses implement the noise function.
+ */
+@SuppressWarnings("MagicNumber")
+public abstract class AbstractNoiseHMProvider implements ProceduralHMProvider {
+    // Bands per core, so that uneven progress still keeps every core busy
+    private static final int BANDS_PER_THREAD = 4;
+
+    @Getter private final double scale;          // Scale of the noise
+    @Getter private final int octaves;           // Number of octaves in the noise
+    @Getter private final double persistence;    // Persistence value for the noise
+    @Getter private final double lacunarity;     // Lacunarity value for the noise
+    @Getter private final int heightRange;       // Range of heights for the heightmap
+    @Getter private final int parallelThreshold; // Cells from which the map is filled on all cores, 0 for never
+
+    private final double maxAmplitude;           // Sum of the amplitudes of all octaves, for normalization
+    private int[] permutation;                   // Permutation array for the noise
+    private final SplittableRandom random;       // Seeded random number generator
+
+    /**
+     * Constructor to initialize the provider with custom noise parameters.
+     *
+     * @param scale             Scale of the noise
+     * @param octaves           Number of octaves used in the noise
+     * @param persistence       Persistence value for the noise
+     * @param lacunarity        Lacunarity value for the noise
+     * @param heightRange       Range of heights for the heightmap
+     * @param parallelThreshold Number of cells from which the map is filled on all cores, or 0 for never
+     * @param random            Random number generator used to shuffle the permutation
+     */
+    protected AbstractNoiseHMProvider(
+        double scale,
+        int octaves,
+        double persistence,
+        double lacunarity,
+        int heightRange,
+        int parallelThreshold,
+        SplittableRandom random
+    ) {
+        this.scale = scale;
+        this.octaves = octaves;
+        this.persistence = persistence;
+        this.lacunarity = lacunarity;
+        this.heightRange = heightRange;
+        this.parallelThreshold = parallelThreshold;
+
+        this.random = random;
+
+        // Calculate total amplitude for normalization
+        double totalAmplitude = 0.0;
+        double amplitude = 1.0;
+        for (int o = 0; o < octaves; o++) {
+            totalAmplitude += amplitude;
+            amplitude *= persistence;
+        }
+        this.maxAmplitude = totalAmplitude;
+
+        initPermutation();
+    }
+
+    /**
+     * Initializes the permutation array used to hash lattice points.
+     */
+    private void initPermutation() {
+        // Initialize the permutation array with values from 0 to 255
+        permutation = new int[512];
+        int[] p = new int[256];
+        for (int i = 0; i < 256; i++) {
+            p[i] = i;
+        }
+
+        // Shuffle the array using the seeded random
+        for (int i = 255; i > 0; i--) {
+            int index = random.nextInt(i + 1);
+            // Swap
+            int temp = p[i];
+            p[i] = p[index];
+            p[index] = temp;
+        }
+
+        // Duplicate the permutation array
+        for (int i = 0; i < 512; i++) {
+            permutation[i] = p[i & 255];
+        }
+    }
+
+    /**
+     * Fills the grid with height values generated using the noise.
+     *
+     * <p>
+     * Every cell depends only on its coordinates and the permutation, which is not changed after construction,
+     * so grids of at least {@link #parallelThreshold} cells are filled by bands of rows on all cores with the same
+     * result as on one thread.
+     * </p>
+     *
+     * @param grid the maze grid representing the heightmap
+     */
+    @Override
+    public void fillMap(MazeGrid grid) {
+        int height = grid.height();
+
+        if (parallelThreshold == 0 || grid.size() < parallelThreshold) {
+            fillRows(grid, 0, height, maxAmplitude);
+            return;
+        }
+
+        int bands = Math.min(height, Runtime.getRuntime().availableProcessors() * BANDS_PER_THREAD);
+        IntStream.range(0, bands).parallel().forEach(band -> fillRows(
+            grid,
+            (int) ((long) height * band / bands),
+            (int) ((long) height * (band + 1) / bands),
+            maxAmplitude
+        ));
+    }
+
+    @Override
+    public int heightAt(int x, int y) {
+        return sampleHeight(x, y, maxAmplitude);
+    }
+
+    /**
+     * Fills the heights of a band of rows.
+     *
+     * @param grid         the maze grid representing the heightmap
+     * @param fromRow      the first row of the band
+     * @param toRow        the row after the last row of the band
+     * @param maxAmplitude the sum of the amplitudes of all octaves
+     */
+    protected void fillRows(MazeGrid grid, int fromRow, int toRow, double maxAmplitude) {
+        int width = grid.width();
+
+        for (int y = fromRow; y < toRow; y++) {
+            for (int x = 0; x < width; x++) {
+                grid.setHeight(grid.index(x, y), sampleHeight(x, y, maxAmplitude));
+            }
+        }
+    }
+
+    /**
+     * Calculates the height of a cell by summing the octaves of the noise.
+     *
+     * @param x            X-coordinate of the cell
+     * @param y            Y-coordinate of the cell
+     * @param maxAmplitude the sum of the amplitudes of all octaves
+     * @return the height, scaled to the height range
+     */
+    protected int sampleHeight(int x, int y, double maxAmplitude) {
+        double amplitude = 1.0;
+        double frequency = 1.0;
+        double noiseHeight = 0.0;
+
+        for (int o = 0; o < octaves; o++) {
+            double sampleX = (x / scale) * frequency;
+            double sampleY = (y / scale) * frequency;
+
+            double noiseValue = noise(sampleX, sampleY);
+            noiseHeight += noiseValue * amplitude;
+
+            amplitude *= persistence;
+            frequency *= lacunarity;
+        }
+
+        // Normalize the noise value
+        double normalized = (noiseHeight / maxAmplitude) * heightRange;
+        return (int) Math.round(normalized);
+    }
+
+    /**
+     * Noise function for 2D coordinates.
+     *
+     * @param x X-coordinate
+     * @param y Y-coordinate
+     * @return Noise value at the given coordinates, roughly in [-1, 1]
+     */
+    protected abstract double noise(double x, double y);
+
+    // The permutation, doubled to 512 entries so that lookups need no wrapping
+    int[] permutation() {
+        return permutation;
+    }
+}
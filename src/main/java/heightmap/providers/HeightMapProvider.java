@@ -1,17 +1,17 @@
 package heightmap.providers;
 
-import maze.Node;
+import maze.grid.MazeGrid;
 
 /**
  * HeightMapProvider is an interface that defines a method for filling a
- * 2D array of Nodes with heightmap data.
+ * maze grid with heightmap data.
  */
 public interface HeightMapProvider {
 
     /**
-     * Fills the provided 2D array of nodes with heightmap data.
+     * Fills the provided grid with heightmap data.
      *
-     * @param nodes 2D array of Node objects that represent the heightmap
+     * @param grid the maze grid that receives the heightmap
      */
-    void fillMap(Node[][] nodes);
+    void fillMap(MazeGrid grid);
 }
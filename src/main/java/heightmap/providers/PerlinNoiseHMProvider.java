@@ -1,75 +1,35 @@
 package heightmap.providers;
 
-import java.security.SecureRandom;
-import lombok.Getter;
-import maze.Node;
+import java.util.SplittableRandom;
 
 /**
  * PerlinNoiseHMProvider is a class that generates a heightmap using Perlin Noise.
- * It implements the HeightMapProvider interface.
+ * It extends the AbstractNoiseHMProvider class.
  */
 @SuppressWarnings("MagicNumber")
-public class PerlinNoiseHMProvider implements HeightMapProvider {
-    @Getter private final double scale;        // Scale of the noise
-    @Getter private final int octaves;         // Number of octaves in the noise
-    @Getter private final double persistence;  // Persistence value for the noise
-    @Getter private final double lacunarity;   // Lacunarity value for the noise
-    @Getter private final int heightRange;     // Range of heights for the heightmap
-
-    private int[] permutation;                 // Permutation array for the noise
-    private final SecureRandom random;         // Secure random number generator
+public class PerlinNoiseHMProvider extends AbstractNoiseHMProvider {
 
     /**
      * Constructor to initialize PerlinNoiseHMProvider with custom noise parameters.
      *
-     * @param scale        Scale of the Perlin noise
-     * @param octaves      Number of octaves used in the noise
-     * @param persistence  Persistence value for the noise
-     * @param lacunarity   Lacunarity value for the noise
-     * @param heightRange  Range of heights for the heightmap
+     * @param scale             Scale of the Perlin noise
+     * @param octaves           Number of octaves used in the noise
+     * @param persistence       Persistence value for the noise
+     * @param lacunarity        Lacunarity value for the noise
+     * @param heightRange       Range of heights for the heightmap
+     * @param parallelThreshold Number of cells from which the map is filled on all cores, or 0 for never
+     * @param random            Random number generator used to shuffle the permutation
      */
     public PerlinNoiseHMProvider(
         double scale,
         int octaves,
         double persistence,
         double lacunarity,
-        int heightRange
+        int heightRange,
+        int parallelThreshold,
+        SplittableRandom random
     ) {
-        this.scale = scale;
-        this.octaves = octaves;
-        this.persistence = persistence;
-        this.lacunarity = lacunarity;
-        this.heightRange = heightRange;
-
-        random = new SecureRandom();
-
-        initPermutation();
-    }
-
-    /**
-     * Initializes the permutation array used for the Perlin noise algorithm.
-     */
-    private void initPermutation() {
-        // Initialize the permutation array with values from 0 to 255
-        permutation = new int[512];
-        int[] p = new int[256];
-        for (int i = 0; i < 256; i++) {
-            p[i] = i;
-        }
-
-        // Shuffle the array using the seeded random
-        for (int i = 255; i > 0; i--) {
-            int index = random.nextInt(i + 1);
-            // Swap
-            int temp = p[i];
-            p[i] = p[index];
-            p[index] = temp;
-        }
-
-        // Duplicate the permutation array
-        for (int i = 0; i < 512; i++) {
-            permutation[i] = p[i & 255];
-        }
+        super(scale, octaves, persistence, lacunarity, heightRange, parallelThreshold, random);
     }
 
     /**
@@ -126,6 +86,7 @@ public class PerlinNoiseHMProvider implements HeightMapProvider {
         double u = fade(xf);
         double v = fade(yf);
 
+        int[] permutation = permutation();
         int aa = permutation[permutation[xi] + yi];
         int ab = permutation[permutation[xi] + yi + 1];
         int ba = permutation[permutation[xi + 1] + yi];
@@ -138,48 +99,8 @@ public class PerlinNoiseHMProvider implements HeightMapProvider {
         return lerp(x1, x2, v);
     }
 
-    /**
-     * Fills the 2D array of nodes with height values generated using Perlin noise.
-     *
-     * @param nodes 2D array of Node objects representing the heightmap
-     */
     @Override
-    public void fillMap(Node[][] nodes) {
-        int height = nodes.length;
-        if (height == 0) {
-            return;
-        }
-        int width = nodes[0].length;
-
-        // Calculate total amplitude for normalization
-        double maxAmplitude = 0.0;
-        double amplitude = 1.0;
-        for (int o = 0; o < octaves; o++) {
-            maxAmplitude += amplitude;
-            amplitude *= persistence;
-        }
-
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                amplitude = 1.0;
-                double frequency = 1.0;
-                double noiseHeight = 0.0;
-
-                for (int o = 0; o < octaves; o++) {
-                    double sampleX = (x / scale) * frequency;
-                    double sampleY = (y / scale) * frequency;
-
-                    double perlinValue = perlin(sampleX, sampleY);
-                    noiseHeight += perlinValue * amplitude;
-
-                    amplitude *= persistence;
-                    frequency *= lacunarity;
-                }
-
-                // Normalize the noise value
-                double normalized = (noiseHeight / maxAmplitude) * heightRange;
-                nodes[y][x].height((int) Math.round(normalized));
-            }
-        }
+    protected double noise(double x, double y) {
+        return perlin(x, y);
     }
 }
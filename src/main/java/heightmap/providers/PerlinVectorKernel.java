@@ -0,0 +1,138 @@
+package heightmap.providers;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Perlin noise kernel evaluating a vector of adjacent x samples at once with the Vector API.
+ *
+ * <p>
+ * The operations follow the scalar kernel of {@link PerlinNoiseHMProvider} one for one, in the same order and
+ * without fused multiply-adds, so every lane yields the same value as the scalar code. Permutation lookups are
+ * gathers, and the gradient is selected with lane masks instead of branches. Only {@link VectorPerlinNoiseHMProvider}
+ * loads this class, and only when the incubator module is present; it calls {@link #fillRow} only if
+ * {@link #supported()}.
+ * </p>
+ */
+@UtilityClass
+@SuppressWarnings("MagicNumber")
+class PerlinVectorKernel {
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    // The narrowest int shape is 64 bits, so ints can only match the lanes of at least two doubles
+    private static final int MIN_LANES = 2;
+    // Ints with as many lanes as DOUBLES, for floors, hashes and gathers; null if no such shape exists
+    private static final VectorSpecies<Integer> INTS = supported()
+        ? VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.length() * Integer.SIZE))
+        : null;
+    // Lane offsets 0, 1, 2, ... added to the first x of a step
+    private static final DoubleVector IOTA = DoubleVector.zero(DOUBLES).addIndex(1);
+
+    /**
+     * Checks whether the preferred vector holds several doubles. It holds a single one when the JVM has no SIMD
+     * support or runs with {@code -XX:MaxVectorSize=8}, and then the kernel cannot be used.
+     *
+     * @return true if {@link #fillRow} can be called
+     */
+    static boolean supported() {
+        return DOUBLES.length() >= MIN_LANES;
+    }
+
+    /**
+     * Calculates the heights of a row in steps of a full vector, leaving the cells after the last full step.
+     *
+     * @param provider     the provider holding the noise parameters
+     * @param y            Y-coordinate of the row
+     * @param maxAmplitude the sum of the amplitudes of all octaves
+     * @param heights      receives the heights, indexed by x; its length is the width of the row
+     * @return the number of cells calculated, from x = 0
+     */
+    static int fillRow(PerlinNoiseHMProvider provider, int y, double maxAmplitude, int[] heights) {
+        int[] permutation = provider.permutation();
+        int[] index = new int[INTS.length()];
+        double[] normalized = new double[DOUBLES.length()];
+
+        int bound = DOUBLES.loopBound(heights.length);
+        for (int x = 0; x < bound; x += DOUBLES.length()) {
+            DoubleVector xs = IOTA.add(x);
+            double amplitude = 1.0;
+            double frequency = 1.0;
+            DoubleVector noiseHeight = DoubleVector.zero(DOUBLES);
+
+            for (int o = 0; o < provider.octaves(); o++) {
+                DoubleVector sampleX = xs.div(provider.scale()).mul(frequency);
+                double sampleY = (y / provider.scale()) * frequency;
+
+                noiseHeight = noiseHeight.add(perlin(permutation, index, sampleX, sampleY).mul(amplitude));
+
+                amplitude *= provider.persistence();
+                frequency *= provider.lacunarity();
+            }
+
+            noiseHeight.div(maxAmplitude).mul(provider.heightRange()).intoArray(normalized, 0);
+            for (int lane = 0; lane < normalized.length; lane++) {
+                heights[x + lane] = (int) Math.round(normalized[lane]);
+            }
+        }
+        return bound;
+    }
+
+    // Samples are never negative, so truncating them to ints is the floor
+    private static DoubleVector perlin(int[] permutation, int[] index, DoubleVector x, double y) {
+        IntVector xFloor = (IntVector) x.convertShape(VectorOperators.D2I, INTS, 0);
+        IntVector xi = xFloor.and(255);
+        int yi = (int) Math.floor(y) & 255;
+
+        DoubleVector xf = x.sub(xFloor.convertShape(VectorOperators.I2D, DOUBLES, 0));
+        double yf = y - Math.floor(y);
+
+        DoubleVector u = fade(xf);
+        double v = fade(yf);
+
+        IntVector a = gather(permutation, 0, xi, index).add(yi);
+        IntVector b = gather(permutation, 1, xi, index).add(yi);
+        IntVector aa = gather(permutation, 0, a, index);
+        IntVector ab = gather(permutation, 1, a, index);
+        IntVector ba = gather(permutation, 0, b, index);
+        IntVector bb = gather(permutation, 1, b, index);
+
+        DoubleVector xf1 = xf.sub(1);
+        DoubleVector x1 = lerp(grad(aa, xf, yf), grad(ba, xf1, yf), u);
+        DoubleVector x2 = lerp(grad(ab, xf, yf - 1), grad(bb, xf1, yf - 1), u);
+        return x2.sub(x1).mul(v).add(x1);
+    }
+
+    // Reads permutation[offset + i] for every lane i of the indices
+    private static IntVector gather(int[] permutation, int offset, IntVector indices, int[] index) {
+        indices.intoArray(index, 0);
+        return IntVector.fromArray(INTS, permutation, offset, index, 0);
+    }
+
+    private static DoubleVector fade(DoubleVector t) {
+        return t.mul(t).mul(t).mul(t.mul(t.mul(6).sub(15)).add(10));
+    }
+
+    private static double fade(double t) {
+        return t * t * t * (t * (t * 6 - 15) + 10);
+    }
+
+    private static DoubleVector lerp(DoubleVector a, DoubleVector b, DoubleVector t) {
+        return b.sub(a).mul(t).add(a);
+    }
+
+    private static DoubleVector grad(IntVector hash, DoubleVector x, double y) {
+        IntVector h = hash.and(7);
+        VectorMask<Double> xFirst = h.lt(4).cast(DOUBLES);
+        VectorMask<Double> negateU = h.and(1).compare(VectorOperators.NE, 0).cast(DOUBLES);
+        VectorMask<Double> negateV = h.and(2).compare(VectorOperators.NE, 0).cast(DOUBLES);
+
+        DoubleVector ys = DoubleVector.broadcast(DOUBLES, y);
+        DoubleVector u = ys.blend(x, xFirst);
+        DoubleVector v = x.blend(ys, xFirst);
+        return u.lanewise(VectorOperators.NEG, negateU).add(v.lanewise(VectorOperators.NEG, negateV));
+    }
+}
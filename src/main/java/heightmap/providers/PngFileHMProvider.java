@@ -0,0 +1,55 @@
+package heightmap.providers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import lombok.Getter;
+import maze.grid.MazeGrid;
+
+/**
+ * PngFileHMProvider is a class that reads a heightmap from a grayscale PNG image, black being the lowest height
+ * and white the highest. It implements the HeightMapProvider interface.
+ *
+ * <p>
+ * The image is decoded one scanline at a time and each scanline is resampled onto the grid as soon as it is
+ * decoded, so the decoded image is never held in memory.
+ * </p>
+ */
+public class PngFileHMProvider implements HeightMapProvider {
+    @Getter private final Path file;       // Grayscale PNG image
+    @Getter private final int heightRange; // Range of heights for the heightmap
+
+    /**
+     * Constructor to initialize PngFileHMProvider with the image file.
+     *
+     * @param file        Grayscale PNG image
+     * @param heightRange Range of heights for the heightmap
+     */
+    public PngFileHMProvider(Path file, int heightRange) {
+        this.file = file;
+        this.heightRange = heightRange;
+    }
+
+    /**
+     * Fills the grid with the heights of the image, resampled to the grid's dimensions.
+     *
+     * @param grid the maze grid representing the heightmap
+     * @throws IllegalArgumentException if the file is not a supported PNG image
+     */
+    @Override
+    public void fillMap(MazeGrid grid) {
+        try (PngScanlineReader reader = new PngScanlineReader(file)) {
+            RowResampler resampler =
+                new RowResampler(grid, reader.width(), reader.height(), 0, reader.maxSample(), heightRange);
+            int[] row = new int[reader.width()];
+            for (int y = 0; y < reader.height(); y++) {
+                reader.readRow(row);
+                resampler.accept(row);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read heightmap from " + file, e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage() + " " + file, e);
+        }
+    }
+}
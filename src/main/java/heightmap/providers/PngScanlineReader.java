@@ -0,0 +1,247 @@
+package heightmap.providers;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Decodes a grayscale PNG file one scanline at a time, from top to bottom.
+ *
+ * <p>
+ * The compressed image data is inflated as it is read and each scanline is unfiltered against the previous one,
+ * so only two scanlines are held in memory however large the image is. Non-interlaced 8- and 16-bit grayscale
+ * images are supported, with or without an alpha channel, which is ignored. Checksums are not verified.
+ * </p>
+ */
+@SuppressWarnings("MagicNumber")
+class PngScanlineReader implements AutoCloseable {
+    private static final long SIGNATURE = 0x89504E470D0A1A0AL;
+    private static final int IHDR = 0x49484452;
+    private static final int IDAT = 0x49444154;
+    private static final int CHUNK_CRC_BYTES = 4;
+    private static final int GRAY = 0;
+    private static final int GRAY_ALPHA = 4;
+    private static final int BUFFER_SIZE = 65_536;
+
+    private final DataInputStream file;
+    private final Inflater inflater = new Inflater();
+    private final DataInputStream pixels;
+
+    private int width;
+    private int height;
+    private int bitDepth;
+    private int bytesPerPixel;
+    private byte[] scanline;
+    private byte[] previous;
+
+    /**
+     * Opens the file and reads the image header.
+     *
+     * @param path the PNG file
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a supported PNG image
+     */
+    PngScanlineReader(Path path) throws IOException {
+        this.file = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+        try {
+            int imageData = readHeader();
+            InputStream compressed = new ImageDataStream(imageData);
+            this.pixels = new DataInputStream(new InflaterInputStream(compressed, inflater, BUFFER_SIZE));
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    int width() {
+        return width;
+    }
+
+    int height() {
+        return height;
+    }
+
+    /**
+     * Returns the largest gray value of the image, which is white.
+     *
+     * @return 255 for 8-bit images, 65535 for 16-bit images
+     */
+    int maxSample() {
+        return (1 << bitDepth) - 1;
+    }
+
+    /**
+     * Decodes the next scanline.
+     *
+     * @param samples receives the gray values of the scanline, indexed by x
+     * @throws IOException if the file cannot be read or ends early
+     */
+    void readRow(int[] samples) throws IOException {
+        int filter = pixels.readUnsignedByte();
+        pixels.readFully(scanline);
+        unfilter(filter);
+
+        for (int x = 0, offset = 0; x < width; x++, offset += bytesPerPixel) {
+            samples[x] = bitDepth == 8
+                ? scanline[offset] & 0xFF
+                : (scanline[offset] & 0xFF) << 8 | scanline[offset + 1] & 0xFF;
+        }
+
+        byte[] done = previous;
+        previous = scanline;
+        scanline = done;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        file.close();
+    }
+
+    // Reads chunks up to the first image data chunk and returns its length
+    private int readHeader() throws IOException {
+        if (file.readLong() != SIGNATURE) {
+            throw new IllegalArgumentException("Not a PNG file.");
+        }
+
+        boolean header = false;
+        while (true) {
+            int length = file.readInt();
+            int type = file.readInt();
+            if (type == IDAT) {
+                if (!header) {
+                    throw new IllegalArgumentException("Corrupted PNG file: image data before the header.");
+                }
+                return length;
+            }
+            if (type == IHDR) {
+                readImageHeader();
+                header = true;
+                file.skipNBytes(CHUNK_CRC_BYTES);
+            } else {
+                file.skipNBytes(length + (long) CHUNK_CRC_BYTES);
+            }
+        }
+    }
+
+    private void readImageHeader() throws IOException {
+        width = file.readInt();
+        height = file.readInt();
+        bitDepth = file.readUnsignedByte();
+        int colorType = file.readUnsignedByte();
+        int compression = file.readUnsignedByte();
+        int filtering = file.readUnsignedByte();
+        int interlace = file.readUnsignedByte();
+
+        if (width <= 0 || height <= 0 || compression != 0 || filtering != 0) {
+            throw new IllegalArgumentException("Corrupted PNG file header.");
+        }
+        if ((colorType != GRAY && colorType != GRAY_ALPHA) || (bitDepth != 8 && bitDepth != 16) || interlace != 0) {
+            throw new IllegalArgumentException(
+                "Unsupported PNG image: only non-interlaced 8- or 16-bit grayscale images can be read.");
+        }
+
+        int channels = colorType == GRAY ? 1 : 2;
+        bytesPerPixel = channels * bitDepth / 8;
+        scanline = new byte[Math.multiplyExact(width, bytesPerPixel)];
+        previous = new byte[scanline.length];
+    }
+
+    // Reverses the filter of the scanline, see https://www.w3.org/TR/png/#9Filters
+    private void unfilter(int filter) {
+        byte[] line = scanline;
+        byte[] above = previous;
+        int bpp = bytesPerPixel;
+        switch (filter) {
+            case 0 -> {
+            }
+            case 1 -> {
+                for (int i = bpp; i < line.length; i++) {
+                    line[i] += line[i - bpp];
+                }
+            }
+            case 2 -> {
+                for (int i = 0; i < line.length; i++) {
+                    line[i] += above[i];
+                }
+            }
+            case 3 -> {
+                for (int i = 0; i < line.length; i++) {
+                    int left = i >= bpp ? line[i - bpp] & 0xFF : 0;
+                    line[i] += (byte) ((left + (above[i] & 0xFF)) >>> 1);
+                }
+            }
+            case 4 -> {
+                for (int i = 0; i < line.length; i++) {
+                    int left = i >= bpp ? line[i - bpp] & 0xFF : 0;
+                    int up = above[i] & 0xFF;
+                    int upLeft = i >= bpp ? above[i - bpp] & 0xFF : 0;
+                    line[i] += (byte) paeth(left, up, upLeft);
+                }
+            }
+            default -> throw new IllegalArgumentException("Corrupted PNG file: unknown filter " + filter + ".");
+        }
+    }
+
+    private static int paeth(int left, int up, int upLeft) {
+        int estimate = left + up - upLeft;
+        int toLeft = Math.abs(estimate - left);
+        int toUp = Math.abs(estimate - up);
+        int toUpLeft = Math.abs(estimate - upLeft);
+        if (toLeft <= toUp && toLeft <= toUpLeft) {
+            return left;
+        }
+        return toUp <= toUpLeft ? up : upLeft;
+    }
+
+    /**
+     * The compressed image data, which is split over consecutive image data chunks.
+     */
+    private final class ImageDataStream extends InputStream {
+        private int remaining;
+        private boolean ended;
+
+        ImageDataStream(int length) {
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            while (remaining == 0) {
+                if (ended || !nextChunk()) {
+                    return -1;
+                }
+            }
+            int count = file.read(buffer, offset, Math.min(length, remaining));
+            if (count < 0) {
+                throw new EOFException("Truncated PNG file.");
+            }
+            remaining -= count;
+            return count;
+        }
+
+        // Moves to the next chunk, returning false once it is not image data
+        private boolean nextChunk() throws IOException {
+            file.skipNBytes(CHUNK_CRC_BYTES);
+            int length = file.readInt();
+            if (file.readInt() != IDAT) {
+                ended = true;
+                return false;
+            }
+            remaining = length;
+            return true;
+        }
+    }
+}
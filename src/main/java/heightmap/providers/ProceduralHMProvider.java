@@ -0,0 +1,17 @@
+package heightmap.providers;
+
+/**
+ * ProceduralHMProvider is a heightmap provider whose heights are a deterministic function of the coordinates,
+ * so the height of any cell can be computed on its own, in any order and without filling the grid.
+ */
+public interface ProceduralHMProvider extends HeightMapProvider {
+
+    /**
+     * Computes the height of a single cell. The result is the one {@link #fillMap} writes for that cell.
+     *
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return the height of the cell
+     */
+    int heightAt(int x, int y);
+}
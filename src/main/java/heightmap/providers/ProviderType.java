@@ -2,11 +2,16 @@ package heightmap.providers;
 
 /**
  * ProviderType is an enum that defines different types of heightmap providers.
- * Currently, it supports RANDOM and PERLIN_NOISE providers.
+ * Currently, it supports RANDOM, PERLIN_NOISE, VECTOR_PERLIN_NOISE and SIMPLEX_NOISE providers,
+ * and RAW_FILE and PNG_FILE providers that read the heightmap from a file.
  */
 public enum ProviderType {
-    RANDOM,       // Random heightmap provider
-    PERLIN_NOISE; // Perlin Noise heightmap provider
+    RANDOM,              // Random heightmap provider
+    PERLIN_NOISE,        // Perlin Noise heightmap provider
+    VECTOR_PERLIN_NOISE, // Perlin Noise heightmap provider using the Vector API
+    SIMPLEX_NOISE,       // Simplex Noise heightmap provider
+    RAW_FILE,            // Heightmap read from a raw 16-bit elevation file
+    PNG_FILE;            // Heightmap read from a grayscale PNG image
 
     /**
      * Converts a string representation of the provider type to a ProviderType enum.
@@ -1,46 +1,80 @@
 package heightmap.providers;
 
-import java.security.SecureRandom;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
 import lombok.Getter;
-import maze.Node;
+import maze.grid.MazeGrid;
 
 /**
  * RandomHMProvider is a class that generates a heightmap using random values.
  * It implements the HeightMapProvider interface.
+ *
+ * <p>
+ * Every row draws its heights from its own random stream, split from the given one in row order, so the heightmap
+ * for a given random state does not depend on the number of threads. Grids of at least {@link #parallelThreshold}
+ * cells are filled by bands of rows on all cores. Each row is generated into a buffer and written with
+ * {@link MazeGrid#setHeights}, which copies it in bulk into grids backed by a primitive array.
+ * </p>
  */
 public class RandomHMProvider implements HeightMapProvider {
-    @Getter private final int heightRange;   // Range of heights for the heightmap
+    // Bands per core, so that uneven progress still keeps every core busy
+    private static final int BANDS_PER_THREAD = 4;
 
-    private final SecureRandom random;       // Secure random number generator
+    @Getter private final int heightRange;       // Range of heights for the heightmap
+    @Getter private final int parallelThreshold; // Cells from which the map is filled on all cores, 0 for never
+
+    private final SplittableRandom random;       // Seeded random number generator
 
     /**
      * Constructor to initialize RandomHMProvider with a specified height range.
      *
-     * @param heightRange Range of heights for the heightmap
+     * @param heightRange       Range of heights for the heightmap
+     * @param parallelThreshold Number of cells from which the map is filled on all cores, or 0 for never
+     * @param random            Random number generator the streams of the rows are split from
      */
-    public RandomHMProvider(int heightRange) {
+    public RandomHMProvider(int heightRange, int parallelThreshold, SplittableRandom random) {
         this.heightRange = heightRange;
-        this.random = new SecureRandom();
+        this.parallelThreshold = parallelThreshold;
+        this.random = random;
     }
 
     /**
-     * Fills the 2D array of nodes with random height values.
+     * Fills the grid with random height values.
      *
-     * @param nodes 2D array of Node objects representing the heightmap
+     * @param grid the maze grid representing the heightmap
      */
     @Override
-    public void fillMap(Node[][] nodes) {
-        int height = nodes.length;
-        if (height == 0) {
+    public void fillMap(MazeGrid grid) {
+        int height = grid.height();
+        SplittableRandom[] streams = new SplittableRandom[height];
+        for (int y = 0; y < height; y++) {
+            streams[y] = random.split();
+        }
+
+        if (parallelThreshold == 0 || grid.size() < parallelThreshold) {
+            fillRows(grid, streams, 0, height);
             return;
         }
-        int width = nodes[0].length;
 
-        for (Node[] node : nodes) {
-            for (int x = 0; x < width; x++) {
-                double normalized = random.nextDouble(-1, 1) * heightRange;
-                node[x].height((int) Math.round(normalized));
+        int bands = Math.min(height, Runtime.getRuntime().availableProcessors() * BANDS_PER_THREAD);
+        IntStream.range(0, bands).parallel().forEach(band -> fillRows(
+            grid,
+            streams,
+            (int) ((long) height * band / bands),
+            (int) ((long) height * (band + 1) / bands)
+        ));
+    }
+
+    // Fills a band of rows, each from its own stream
+    private void fillRows(MazeGrid grid, SplittableRandom[] streams, int fromRow, int toRow) {
+        int[] heights = new int[grid.width()];
+        for (int y = fromRow; y < toRow; y++) {
+            SplittableRandom rowRandom = streams[y];
+            for (int x = 0; x < heights.length; x++) {
+                double normalized = rowRandom.nextDouble(-1, 1) * heightRange;
+                heights[x] = (int) Math.round(normalized);
             }
+            grid.setHeights(grid.index(0, y), heights);
         }
     }
 }
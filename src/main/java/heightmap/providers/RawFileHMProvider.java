@@ -0,0 +1,145 @@
+package heightmap.providers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import maze.grid.MazeGrid;
+
+/**
+ * RawFileHMProvider is a class that reads a heightmap from a raw elevation grid, as exported from DEM tools.
+ * It implements the HeightMapProvider interface.
+ *
+ * <p>
+ * The file holds {@code width * height} little-endian 16-bit signed samples, row by row, without a header.
+ * It is memory-mapped and read twice, once for the range of the samples and once to resample the rows onto the
+ * grid, so neither the whole file nor a decoded copy of it is ever held on the heap. Samples of -32768, the usual
+ * no-data value, are voids. Files of at least {@link #parallelThreshold} samples are read by bands of rows on all
+ * cores, with the same result as on one thread.
+ * </p>
+ */
+public class RawFileHMProvider implements HeightMapProvider {
+    private static final ValueLayout.OfShort SAMPLE_LAYOUT = ValueLayout.JAVA_SHORT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final short NO_DATA = Short.MIN_VALUE;
+    // Bands per core, so that uneven progress still keeps every core busy
+    private static final int BANDS_PER_THREAD = 4;
+
+    @Getter private final Path file;             // Raw elevation file
+    @Getter private final int width;             // Number of samples per row of the file
+    @Getter private final int height;            // Number of rows of the file
+    @Getter private final int heightRange;       // Range of heights for the heightmap
+    @Getter private final int parallelThreshold; // Samples from which the file is read on all cores, 0 for never
+
+    /**
+     * Constructor to initialize RawFileHMProvider with the file and its dimensions.
+     *
+     * @param file              Raw elevation file
+     * @param width             Number of samples per row of the file
+     * @param height            Number of rows of the file
+     * @param heightRange       Range of heights for the heightmap
+     * @param parallelThreshold Number of samples from which the file is read on all cores, or 0 for never
+     */
+    public RawFileHMProvider(Path file, int width, int height, int heightRange, int parallelThreshold) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Raw heightmap dimensions must be positive.");
+        }
+        this.file = file;
+        this.width = width;
+        this.height = height;
+        this.heightRange = heightRange;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Fills the grid with the heights of the file, resampled to the grid's dimensions.
+     *
+     * @param grid the maze grid representing the heightmap
+     * @throws IllegalArgumentException if the file size does not match the dimensions
+     */
+    @Override
+    public void fillMap(MazeGrid grid) {
+        long samples = (long) width * height;
+        boolean parallel = parallelThreshold != 0 && samples >= parallelThreshold;
+
+        try (Arena arena = parallel ? Arena.ofShared() : Arena.ofConfined();
+             FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = samples * Short.BYTES;
+            if (channel.size() != size) {
+                throw new IllegalArgumentException("Raw heightmap " + file + " holds " + channel.size()
+                    + " bytes, expected " + size + " for " + width + "x" + height + " samples.");
+            }
+            MemorySegment mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+
+            if (!parallel) {
+                int[] range = range(mapping, 0, height);
+                resample(mapping, new RowResampler(grid, width, height, range[0], range[1], heightRange));
+                return;
+            }
+
+            int sourceBands = Math.min(height, Runtime.getRuntime().availableProcessors() * BANDS_PER_THREAD);
+            int[] range = IntStream.range(0, sourceBands).parallel()
+                .mapToObj(band -> range(
+                    mapping,
+                    bandStart(band, sourceBands, height),
+                    bandStart(band + 1, sourceBands, height)
+                ))
+                .reduce(new int[] {Integer.MAX_VALUE, Integer.MIN_VALUE}, (a, b) ->
+                    new int[] {Math.min(a[0], b[0]), Math.max(a[1], b[1])});
+
+            RowResampler resampler = new RowResampler(grid, width, height, range[0], range[1], heightRange);
+            int gridBands = Math.min(grid.height(), Runtime.getRuntime().availableProcessors() * BANDS_PER_THREAD);
+            IntStream.range(0, gridBands).parallel().forEach(band -> resample(mapping, resampler.rows(
+                bandStart(band, gridBands, grid.height()),
+                bandStart(band + 1, gridBands, grid.height())
+            )));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read heightmap from " + file, e);
+        }
+    }
+
+    // Finds the smallest and the largest known sample of a band of rows
+    private int[] range(MemorySegment mapping, int fromRow, int toRow) {
+        short[] samples = new short[width];
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int y = fromRow; y < toRow; y++) {
+            readRow(mapping, y, samples);
+            for (short sample : samples) {
+                if (sample != NO_DATA) {
+                    min = Math.min(min, sample);
+                    max = Math.max(max, sample);
+                }
+            }
+        }
+        return new int[] {min, max};
+    }
+
+    // Passes the source rows the resampler needs
+    private void resample(MemorySegment mapping, RowResampler resampler) {
+        short[] samples = new short[width];
+        int[] row = new int[width];
+        for (int y = resampler.firstSourceRow(); y < resampler.endSourceRow(); y++) {
+            readRow(mapping, y, samples);
+            for (int x = 0; x < width; x++) {
+                row[x] = samples[x] == NO_DATA ? RowResampler.VOID : samples[x];
+            }
+            resampler.accept(row);
+        }
+    }
+
+    // Copies a row out of the mapping in bulk, swapping bytes on big-endian platforms
+    private void readRow(MemorySegment mapping, int y, short[] samples) {
+        MemorySegment.copy(mapping, SAMPLE_LAYOUT, (long) y * width * Short.BYTES, samples, 0, width);
+    }
+
+    private static int bandStart(int band, int bands, int rows) {
+        return (int) ((long) rows * band / bands);
+    }
+}
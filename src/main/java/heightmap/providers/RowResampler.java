@@ -0,0 +1,166 @@
+package heightmap.providers;
+
+import java.util.Arrays;
+import maze.grid.MazeGrid;
+
+/**
+ * Resamples an image of height samples onto a grid of any size, taking the source rows one at a time from top
+ * to bottom.
+ *
+ * <p>
+ * Every cell of the grid covers a box of source samples and receives their mean, mapped linearly from the range
+ * of the samples to the height range. When the grid is larger than the image, boxes are single samples shared by
+ * neighboring cells. Only one row of sums is kept, so memory depends on the grid width and not on the image size.
+ * Voids are left out of the means; a cell that covers nothing but voids gets the lowest height.
+ * </p>
+ *
+ * <p>
+ * A resampler can be split into resamplers of bands of grid rows with {@link #rows}. Each band only needs its own
+ * source rows, so bands can be filled concurrently from a source that allows random access.
+ * </p>
+ */
+class RowResampler {
+    /**
+     * Sample value that marks a void, a point without a known height.
+     */
+    static final int VOID = Integer.MIN_VALUE;
+
+    private final MazeGrid grid;
+    private final int sourceHeight;
+    private final int heightRange;
+    private final double min;
+    private final double scale;
+    private final int[] columnStart;
+    private final int[] columnEnd;
+    private final double[] sums;
+    private final int[] counts;
+    private final int fromRow;
+    private final int toRow;
+
+    private int sourceRow;
+    private int row;
+
+    /**
+     * Prepares the resampling of an image onto the grid.
+     *
+     * @param grid         the grid that receives the heights
+     * @param sourceWidth  the width of the image
+     * @param sourceHeight the height of the image
+     * @param min          the sample value mapped to the lowest height
+     * @param max          the sample value mapped to the highest height
+     * @param heightRange  the range of heights for the heightmap
+     */
+    RowResampler(MazeGrid grid, int sourceWidth, int sourceHeight, double min, double max, int heightRange) {
+        this.grid = grid;
+        this.sourceHeight = sourceHeight;
+        this.heightRange = heightRange;
+        this.min = min;
+        this.scale = max > min ? 2.0 * heightRange / (max - min) : 0.0;
+
+        int width = grid.width();
+        this.columnStart = new int[width];
+        this.columnEnd = new int[width];
+        for (int x = 0; x < width; x++) {
+            columnStart[x] = boxStart(x, width, sourceWidth);
+            columnEnd[x] = boxEnd(x, width, sourceWidth);
+        }
+        this.sums = new double[width];
+        this.counts = new int[width];
+        this.fromRow = 0;
+        this.toRow = grid.height();
+    }
+
+    private RowResampler(RowResampler whole, int fromRow, int toRow) {
+        this.grid = whole.grid;
+        this.sourceHeight = whole.sourceHeight;
+        this.heightRange = whole.heightRange;
+        this.min = whole.min;
+        this.scale = whole.scale;
+        this.columnStart = whole.columnStart;
+        this.columnEnd = whole.columnEnd;
+        this.sums = new double[whole.sums.length];
+        this.counts = new int[whole.counts.length];
+        this.fromRow = fromRow;
+        this.toRow = toRow;
+        this.row = fromRow;
+        this.sourceRow = boxStart(fromRow, grid.height(), sourceHeight);
+    }
+
+    /**
+     * Creates a resampler for a band of grid rows, which takes the source rows from {@link #firstSourceRow()}
+     * up to {@link #endSourceRow()}.
+     *
+     * @param fromRow the first grid row of the band
+     * @param toRow   the grid row after the last row of the band
+     * @return the resampler of the band
+     */
+    RowResampler rows(int fromRow, int toRow) {
+        return new RowResampler(this, fromRow, toRow);
+    }
+
+    /**
+     * Returns the first source row to pass to {@link #accept}.
+     *
+     * @return the index of the source row
+     */
+    int firstSourceRow() {
+        return boxStart(fromRow, grid.height(), sourceHeight);
+    }
+
+    /**
+     * Returns the source row after the last one to pass to {@link #accept}.
+     *
+     * @return the index of the source row
+     */
+    int endSourceRow() {
+        return boxEnd(toRow - 1, grid.height(), sourceHeight);
+    }
+
+    /**
+     * Adds the next source row, writing the grid rows whose boxes it completes.
+     *
+     * @param samples the samples of the row, indexed by x; voids are {@link #VOID}
+     */
+    void accept(int[] samples) {
+        for (int x = 0; x < sums.length; x++) {
+            for (int sx = columnStart[x]; sx < columnEnd[x]; sx++) {
+                if (samples[sx] != VOID) {
+                    sums[x] += samples[sx];
+                    counts[x]++;
+                }
+            }
+        }
+        sourceRow++;
+
+        int height = grid.height();
+        if (sourceRow < boxEnd(row, height, sourceHeight)) {
+            return;
+        }
+        // Rows sharing the box of the current row follow it directly
+        int start = boxStart(row, height, sourceHeight);
+        while (row < toRow && boxStart(row, height, sourceHeight) == start) {
+            writeRow(row++);
+        }
+        Arrays.fill(sums, 0.0);
+        Arrays.fill(counts, 0);
+    }
+
+    private void writeRow(int y) {
+        for (int x = 0; x < sums.length; x++) {
+            int value = counts[x] == 0
+                ? -heightRange
+                : (int) Math.round((sums[x] / counts[x] - min) * scale) - heightRange;
+            grid.setHeight(grid.index(x, y), value);
+        }
+    }
+
+    // First source sample covered by cell i of an axis of the given size
+    private static int boxStart(int i, int size, int sourceSize) {
+        return (int) ((long) i * sourceSize / size);
+    }
+
+    // Source sample after the last one covered by cell i, so that every box holds at least one sample
+    private static int boxEnd(int i, int size, int sourceSize) {
+        return Math.max(boxStart(i, size, sourceSize) + 1, (int) ((long) (i + 1) * sourceSize / size));
+    }
+}
@@ -0,0 +1,123 @@
+package heightmap.providers;
+
+import java.util.SplittableRandom;
+
+/**
+ * SimplexNoiseHMProvider is a class that generates a heightmap using 2D simplex noise.
+ * It extends the AbstractNoiseHMProvider class.
+ *
+ * <p>
+ * Simplex noise splits the plane into triangles instead of squares, so each sample sums the contributions of three
+ * corners rather than interpolating four. The skew factors, the twelve gradients and the permutation reduced
+ * modulo 12 are computed once, and floors are taken with a cast and a comparison instead of {@code Math.floor}.
+ * </p>
+ */
+@SuppressWarnings("MagicNumber")
+public class SimplexNoiseHMProvider extends AbstractNoiseHMProvider {
+    // Skews a point onto the grid of squares that are split into two triangles each
+    private static final double SKEW = 0.5 * (Math.sqrt(3.0) - 1.0);
+    // Unskews a lattice point back to the plane
+    private static final double UNSKEW = (3.0 - Math.sqrt(3.0)) / 6.0;
+    // Scales the sum of the corner contributions to roughly [-1, 1]
+    private static final double NORMALIZATION = 70.0;
+
+    private static final double[] GRADIENT_X = {1, -1, 1, -1, 1, -1, 1, -1, 0, 0, 0, 0};
+    private static final double[] GRADIENT_Y = {1, 1, -1, -1, 0, 0, 0, 0, 1, -1, 1, -1};
+
+    private final int[] permutationMod12;     // Gradient index of each permutation entry
+
+    /**
+     * Constructor to initialize SimplexNoiseHMProvider with custom noise parameters.
+     *
+     * @param scale             Scale of the simplex noise
+     * @param octaves           Number of octaves used in the noise
+     * @param persistence       Persistence value for the noise
+     * @param lacunarity        Lacunarity value for the noise
+     * @param heightRange       Range of heights for the heightmap
+     * @param parallelThreshold Number of cells from which the map is filled on all cores, or 0 for never
+     * @param random            Random number generator used to shuffle the permutation
+     */
+    public SimplexNoiseHMProvider(
+        double scale,
+        int octaves,
+        double persistence,
+        double lacunarity,
+        int heightRange,
+        int parallelThreshold,
+        SplittableRandom random
+    ) {
+        super(scale, octaves, persistence, lacunarity, heightRange, parallelThreshold, random);
+
+        int[] permutation = permutation();
+        permutationMod12 = new int[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            permutationMod12[i] = permutation[i] % GRADIENT_X.length;
+        }
+    }
+
+    /**
+     * Rounds down without the special cases of {@code Math.floor}.
+     *
+     * @param x Value to round
+     * @return Largest integer not greater than the value
+     */
+    private static int fastFloor(double x) {
+        int truncated = (int) x;
+        return x < truncated ? truncated - 1 : truncated;
+    }
+
+    /**
+     * Contribution of a simplex corner, fading out with the squared distance to the corner.
+     *
+     * @param gradient Index of the corner's gradient
+     * @param x        X-offset from the corner
+     * @param y        Y-offset from the corner
+     * @return Contribution of the corner
+     */
+    private static double corner(int gradient, double x, double y) {
+        double t = 0.5 - x * x - y * y;
+        if (t < 0) {
+            return 0.0;
+        }
+        t *= t;
+        return t * t * (GRADIENT_X[gradient] * x + GRADIENT_Y[gradient] * y);
+    }
+
+    /**
+     * Simplex noise function for 2D coordinates.
+     *
+     * @param x X-coordinate
+     * @param y Y-coordinate
+     * @return Noise value at the given coordinates
+     */
+    @Override
+    protected double noise(double x, double y) {
+        // Find the square of the skewed grid that contains the point
+        double skew = (x + y) * SKEW;
+        int i = fastFloor(x + skew);
+        int j = fastFloor(y + skew);
+
+        // Offset from the first corner, back in the plane
+        double unskew = (i + j) * UNSKEW;
+        double x0 = x - (i - unskew);
+        double y0 = y - (j - unskew);
+
+        // The point lies in the lower triangle of the square if x0 > y0, otherwise in the upper one
+        int i1 = x0 > y0 ? 1 : 0;
+        int j1 = 1 - i1;
+
+        double x1 = x0 - i1 + UNSKEW;
+        double y1 = y0 - j1 + UNSKEW;
+        double x2 = x0 - 1.0 + 2.0 * UNSKEW;
+        double y2 = y0 - 1.0 + 2.0 * UNSKEW;
+
+        int[] permutation = permutation();
+        int ii = i & 255;
+        int jj = j & 255;
+        int g0 = permutationMod12[ii + permutation[jj]];
+        int g1 = permutationMod12[ii + i1 + permutation[jj + j1]];
+        int g2 = permutationMod12[ii + 1 + permutation[jj + 1]];
+
+        return NORMALIZATION * (corner(g0, x0, y0) + corner(g1, x1, y1) + corner(g2, x2, y2));
+    }
+}
@@ -0,0 +1,76 @@
+package heightmap.providers;
+
+import java.util.SplittableRandom;
+import maze.grid.MazeGrid;
+
+/**
+ * VectorPerlinNoiseHMProvider generates the same heightmap as {@link PerlinNoiseHMProvider}, evaluating a vector of
+ * adjacent cells of a row at once with the incubating Vector API.
+ *
+ * <p>
+ * The Vector API is only available when the JVM is started with {@code --add-modules jdk.incubator.vector}.
+ * Without it, or when a vector holds a single double (no SIMD support, or {@code -XX:MaxVectorSize=8}), the provider
+ * falls back to the scalar fill. In both cases the heights are identical to those of
+ * {@link PerlinNoiseHMProvider} with the same parameters and random state: the vector kernel performs the same
+ * floating-point operations in the same order, so every noise value matches the scalar one exactly (tolerance 0).
+ * </p>
+ */
+public class VectorPerlinNoiseHMProvider extends PerlinNoiseHMProvider {
+    // The incubator module is only resolved when requested on the command line, and the kernel class only loaded then
+    private static final boolean VECTOR_API = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+        && PerlinVectorKernel.supported();
+
+    /**
+     * Constructor to initialize VectorPerlinNoiseHMProvider with custom noise parameters.
+     *
+     * @param scale             Scale of the Perlin noise
+     * @param octaves           Number of octaves used in the noise
+     * @param persistence       Persistence value for the noise
+     * @param lacunarity        Lacunarity value for the noise
+     * @param heightRange       Range of heights for the heightmap
+     * @param parallelThreshold Number of cells from which the map is filled on all cores, or 0 for never
+     * @param random            Random number generator used to shuffle the permutation
+     */
+    public VectorPerlinNoiseHMProvider(
+        double scale,
+        int octaves,
+        double persistence,
+        double lacunarity,
+        int heightRange,
+        int parallelThreshold,
+        SplittableRandom random
+    ) {
+        super(scale, octaves, persistence, lacunarity, heightRange, parallelThreshold, random);
+    }
+
+    /**
+     * Checks whether the Vector API is available with vectors of several doubles, so that heights are computed
+     * a vector at a time.
+     *
+     * @return true if the vector kernel is used, false if the provider falls back to the scalar fill
+     */
+    public static boolean vectorized() {
+        return VECTOR_API;
+    }
+
+    @Override
+    protected void fillRows(MazeGrid grid, int fromRow, int toRow, double maxAmplitude) {
+        if (!VECTOR_API) {
+            super.fillRows(grid, fromRow, toRow, maxAmplitude);
+            return;
+        }
+
+        int width = grid.width();
+        int[] heights = new int[width];
+        for (int y = fromRow; y < toRow; y++) {
+            int vectorized = PerlinVectorKernel.fillRow(this, y, maxAmplitude, heights);
+            for (int x = 0; x < vectorized; x++) {
+                grid.setHeight(grid.index(x, y), heights[x]);
+            }
+            // The cells after the last full vector
+            for (int x = vectorized; x < width; x++) {
+                grid.setHeight(grid.index(x, y), sampleHeight(x, y, maxAmplitude));
+            }
+        }
+    }
+}
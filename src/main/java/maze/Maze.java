@@ -1,50 +1,46 @@
 package maze;
 
 import heightmap.providers.HeightMapProvider;
-import java.security.SecureRandom;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
 import lombok.Getter;
 import maze.generator.MazeGenerator;
+import maze.grid.MazeGrid;
+import maze.grid.PackedMazeGrid;
 import maze.solver.MazeSolver;
 import maze.solver.structs.MazeSolution;
-import util.Pair;
 
-public class Maze {
-    @Getter private Node[][] grid;
+public class Maze implements AutoCloseable {
+    @Getter private final MazeGrid grid;
     @Getter private MazeSolution solution;
+    // Seed the maze was generated with, 0 if unknown
+    @Getter private final long seed;
 
     private final int width;
     private final int height;
 
-    private static final SecureRandom RANDOM = new SecureRandom();
-
     public Maze(int width, int height) {
-        this.width = width;
-        this.height = height;
+        this(new PackedMazeGrid(width, height));
+    }
 
-        init();
+    public Maze(MazeGrid grid) {
+        this(grid, 0);
     }
 
-    public void clear() {
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                grid[i][j] = new Node(j, i, 0);
-            }
-        }
+    public Maze(MazeGrid grid, long seed) {
+        this.grid = grid;
+        this.seed = seed;
+        this.width = grid.width();
+        this.height = grid.height();
     }
 
-    private void init() {
-        this.grid = new Node[height][width];
+    public void clear() {
+        grid.clear();
+    }
 
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                grid[i][j] = new Node(j, i, 0);
-            }
-        }
+    @Override
+    public void close() {
+        grid.close();
     }
 
     public void setupSurfaceWith(HeightMapProvider provider) {
@@ -60,77 +56,38 @@ public class Maze {
     }
 
     /**
-     * Retrieves a list of unvisited neighboring directions for the given cell.
+     * Retrieves the unvisited neighboring directions for the given cell.
      *
-     * @param current the current cell
      * @param grid    the maze grid
-     * @param width   the width of the grid
-     * @param height  the height of the grid
-     * @return a list of Directions representing unvisited neighbors
+     * @param cell    the index of the current cell
+     * @param visited the visited flags, indexed by cell
+     * @return a bitmask of Directions representing unvisited neighbors
      */
-    public static List<Node.Direction> getUnvisitedNeighbors(Node current, Node[][] grid, int width, int height) {
-        List<Node.Direction> neighbors = new ArrayList<>();
-        for (Node.Direction direction : Node.Direction.values()) {
-            Pair<Integer, Integer> coords = getNeighborCoordinates(current, direction, width, height);
-            if (coords != null) {
-                Node neighbor = grid[coords.value()][coords.key()];
-                if (!neighbor.visited()) {
-                    neighbors.add(direction);
-                }
+    public static int getUnvisitedNeighbors(MazeGrid grid, int cell, boolean[] visited) {
+        int candidates = grid.neighborMask(cell);
+        int neighbors = 0;
+        for (int mask = candidates; mask != 0; mask &= mask - 1) {
+            Node.Direction direction = Node.Direction.lowest(mask);
+            if (!visited[cell + grid.offset(direction)]) {
+                neighbors |= direction.mask();
             }
         }
         return neighbors;
     }
 
-    /**
-     * Calculates the coordinates of the neighbor in the specified direction.
-     *
-     * @param current   the current cell
-     * @param direction the direction to move
-     * @param width     the width of the grid
-     * @param height    the height of the grid
-     * @return a Pair representing the neighbor's (x, y) coordinates or null if out of bounds
-     */
-    public static Pair<Integer, Integer> getNeighborCoordinates(
-        Node current, Node.Direction direction,
-        int width, int height
-    ) {
-        int x = current.x();
-        int y = current.y();
-        switch (direction) {
-            case NORTH:
-                y -= 1;
-                break;
-            case SOUTH:
-                y += 1;
-                break;
-            case EAST:
-                x += 1;
-                break;
-            case WEST:
-                x -= 1;
-                break;
-            default:
-                throw new IllegalArgumentException("No such direction!");
-        }
-        if (x >= 0 && x < width && y >= 0 && y < height) {
-            return new Pair<>(x, y);
-        }
-        return null;
-    }
-
     /**
      * Removes the walls between two adjacent cells in the specified direction.
      *
-     * @param current   the current cell
-     * @param neighbor  the neighboring cell
+     * @param grid      the maze grid
+     * @param current   the index of the current cell
+     * @param neighbor  the index of the neighboring cell
      * @param direction the direction from current to neighbor
      */
-    public static void removeWall(Node current, Node neighbor, Node.Direction direction) {
-        current.walls().setWall(direction, false);
+    public static void removeWall(MazeGrid grid, int current, int neighbor, Node.Direction direction) {
+        grid.setWall(current, direction, false);
         // Remove the opposite wall in the neighbor cell
         Node.Direction opposite = getOppositeDirection(direction);
-        neighbor.walls().setWall(opposite, false);
+        grid.setWall(neighbor, opposite, false);
     }
 
     /**
@@ -152,30 +109,67 @@ public class Maze {
     /**
      * Adds loops to the maze by randomly removing additional walls based on the loop probability.
      *
+     * <p>
+     * Each row removes its own EAST and SOUTH walls with its own random stream, split from the given one in row
+     * order, so the result for a given random state does not depend on the number of threads. Since a row also
+     * clears the NORTH walls of the row below, even and odd rows run in separate parallel passes.
+     * </p>
+     *
      * @param grid            the maze grid
-     * @param width           the width of the grid
-     * @param height          the height of the grid
      * @param loopProbability the probability of removing an additional wall to create a loop
+     * @param random          the source of the random choices
      */
-    public static void addLoops(Node[][] grid, int width, int height, double loopProbability) {
-        List<Node.Direction> directions = Arrays.asList(Node.Direction.EAST, Node.Direction.SOUTH);
+    public static void addLoops(MazeGrid grid, double loopProbability, SplittableRandom random) {
+        if (loopProbability <= 0) {
+            return;
+        }
 
+        int height = grid.height();
+        SplittableRandom[] streams = new SplittableRandom[height];
         for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                Node current = grid[y][x];
+            streams[y] = random.split();
+        }
 
-                directions.forEach(direction -> {
-                    Pair<Integer, Integer> neighborCoords = getNeighborCoordinates(current, direction, width, height);
+        for (int parity = 0; parity < 2; parity++) {
+            int first = parity;
+            IntStream.range(0, (height - first + 1) / 2).parallel().forEach(i -> {
+                int y = first + 2 * i;
+                addRowLoops(grid, y, loopProbability, streams[y]);
+            });
+        }
+    }
 
-                    // Proceed only if neighbor exists, there is a wall, and probability condition is met
-                    if (neighborCoords != null
-                        && current.walls().hasWall(direction)
-                        && RANDOM.nextDouble() < loopProbability) {
+    // Removes walls of one row, working on the wall bits directly
+    private static void addRowLoops(MazeGrid grid, int y, double loopProbability, SplittableRandom random) {
+        int width = grid.width();
+        int south = Node.Direction.SOUTH.mask();
+        int east = Node.Direction.EAST.mask();
+        // Only walls that separate the cell from an existing neighbor can be removed
+        int rowCandidates = y < grid.height() - 1 ? south | east : east;
 
-                        Node neighbor = grid[neighborCoords.value()][neighborCoords.key()];
-                        removeWall(current, neighbor, direction);
-                    }
-                });
+        int first = y * width;
+        for (int x = 0; x < width; x++) {
+            int current = first + x;
+            int walls = grid.walls(current);
+            int candidates = x < width - 1 ? rowCandidates : rowCandidates & ~east;
+
+            int open = 0;
+            for (int mask = walls & candidates; mask != 0; mask &= mask - 1) {
+                // Proceed only if probability condition is met
+                if (random.nextDouble() < loopProbability) {
+                    open |= mask & -mask;
+                }
+            }
+            if (open == 0) {
+                continue;
+            }
+
+            grid.setWalls(current, walls & ~open);
+            if ((open & east) != 0) {
+                grid.setWalls(current + 1, grid.walls(current + 1) & ~Node.Direction.WEST.mask());
+            }
+            if ((open & south) != 0) {
+                grid.setWalls(current + width, grid.walls(current + width) & ~Node.Direction.NORTH.mask());
             }
         }
     }
@@ -183,16 +177,14 @@ public class Maze {
     /**
      * Creates entrance and exit points in the maze.
      *
-     * @param grid   the maze grid
-     * @param width  the width of the grid
-     * @param height the height of the grid
+     * @param grid the maze grid
      */
-    public static void setupExits(Node[][] grid, int width, int height) {
+    public static void setupExits(MazeGrid grid) {
         // Create entrance at (0,0) by removing the NORTH wall
-        grid[0][0].walls().setWall(Node.Direction.NORTH, false);
+        grid.setWall(grid.index(0, 0), Node.Direction.NORTH, false);
 
         // Create exit at (height-1, width-1) by removing the SOUTH wall
-        grid[height - 1][width - 1].walls().setWall(Node.Direction.SOUTH, false);
+        grid.setWall(grid.index(grid.width() - 1, grid.height() - 1), Node.Direction.SOUTH, false);
     }
 
     /**
@@ -222,10 +214,12 @@ public class Maze {
         topBoundary.append("+\n");
         sb.append(topBoundary);
 
-        // Prepare a set of nodes that are in the solution path for quick lookup
-        Set<Node> solutionPath = new HashSet<>();
+        // Mark the cells that are in the solution path for quick lookup
+        boolean[] solutionPath = new boolean[grid.size()];
         if (solution != null && solution.path() != null) {
-            solutionPath.addAll(solution.path());
+            for (Node node : solution.path()) {
+                solutionPath[grid.index(node.x(), node.y())] = true;
+            }
         }
 
         for (int y = 0; y < height; y++) {
@@ -233,14 +227,14 @@ public class Maze {
             StringBuilder rowBottom = new StringBuilder("+");
 
             for (int x = 0; x < width; x++) {
-                Node current = grid[y][x];
-                String heightStr = String.valueOf(current.height());
+                int current = grid.index(x, y);
+                String heightStr = String.valueOf(grid.heightAt(current));
 
                 // Format height string to occupy (cellWidth) spaces, centered
                 heightStr = centerString(heightStr, cellWidth);
 
                 // Check if current node is part of the solution path
-                if (solutionPath.contains(current)) {
+                if (solutionPath[current]) {
                     // Highlight the cell with background color
                     rowTop.append(ANSI_BG_GREEN).append(heightStr).append(ANSI_RESET);
                 } else {
@@ -249,14 +243,14 @@ public class Maze {
                 }
 
                 // East wall
-                if (current.walls().hasWall(Node.Direction.EAST)) {
+                if (grid.hasWall(current, Node.Direction.EAST)) {
                     rowTop.append('|'); // Changed from "|" to '|'
                 } else {
                     rowTop.append(' '); // Changed from " " to ' '
                 }
 
                 // South wall
-                if (current.walls().hasWall(Node.Direction.SOUTH)) {
+                if (grid.hasWall(current, Node.Direction.SOUTH)) {
                     for (int i = 0; i < cellWidth; i++) {
                         rowBottom.append('-'); // Changed from "-" to '-'
                     }
@@ -301,11 +295,10 @@ public class Maze {
      */
     private int getMaxHeight() {
         int max = Integer.MIN_VALUE;
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                if (grid[y][x].height() > max) {
-                    max = grid[y][x].height();
-                }
+        int size = grid.size();
+        for (int cell = 0; cell < size; cell++) {
+            if (grid.heightAt(cell) > max) {
+                max = grid.heightAt(cell);
             }
         }
         return max;
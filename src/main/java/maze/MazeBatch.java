@@ -0,0 +1,147 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Builds and solves mazes from many specs concurrently, on a fixed pool of {@code parallelism} platform threads.
+ *
+ * <p>
+ * Jobs are CPU-bound, so there is no blocking for virtual threads to hide; a fixed pool keeps one thread per job
+ * that can run. Parallel steps inside a job, such as banded heightmaps, still run in the common pool.
+ * </p>
+ *
+ * <p>
+ * At most {@code parallelism} jobs run at once. Starting a job waits for a free slot, so specs are taken from the
+ * input only as fast as mazes are built and the number of mazes in flight stays bounded however long the input is.
+ * All jobs share one JVM, so class loading and JIT warm-up are paid once per batch rather than once per maze.
+ * Each job reports its own {@link MazeJobResult}; a spec that fails to build does not affect the others.
+ * </p>
+ */
+public class MazeBatch implements AutoCloseable {
+    private final int parallelism;
+    private final Semaphore slots;
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a batch runner.
+     *
+     * @param parallelism the maximum number of mazes built at the same time
+     */
+    public MazeBatch(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Batch parallelism must be positive.");
+        }
+        this.parallelism = parallelism;
+        this.slots = new Semaphore(parallelism);
+        this.executor = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("maze-batch-", 0).factory());
+    }
+
+    /**
+     * Builds a maze for each spec and passes each result to the consumer as soon as its job ends.
+     * Returns once every job has ended.
+     *
+     * <p>
+     * The consumer is called from the job threads, possibly concurrently, and holds a slot while it runs.
+     * If the consumer throws, or a job fails with an {@link Error}, no more jobs are started and the first such
+     * failure is rethrown once the running jobs have ended. The maze of a result whose consumer threw is closed.
+     * </p>
+     *
+     * @param specs    the specs, taken one at a time as slots become free
+     * @param consumer receives the result of each job
+     */
+    public void run(Iterable<MazeSpec> specs, Consumer<MazeJobResult> consumer) {
+        // Holds the first RuntimeException or Error that escaped a job
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        int index = 0;
+        for (MazeSpec spec : specs) {
+            acquire(1);
+            if (failure.get() != null) {
+                slots.release();
+                break;
+            }
+
+            int jobIndex = index++;
+            executor.execute(() -> {
+                MazeJobResult result = null;
+                try {
+                    result = build(jobIndex, spec);
+                    consumer.accept(result);
+                } catch (RuntimeException | Error e) {
+                    // The consumer did not take over the maze, so it would never be closed
+                    if (result != null && result.maze() != null) {
+                        close(result.maze(), e);
+                    }
+                    failure.compareAndSet(null, e);
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+
+        // Every slot is free once the running jobs have ended
+        acquire(parallelism);
+        slots.release(parallelism);
+
+        if (failure.get() instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure.get() instanceof Error e) {
+            throw e;
+        }
+    }
+
+    /**
+     * Builds a maze for each spec.
+     *
+     * @param specs the specs
+     * @return the results, in the order of the specs
+     */
+    public List<MazeJobResult> run(List<MazeSpec> specs) {
+        MazeJobResult[] results = new MazeJobResult[specs.size()];
+        run(specs, result -> results[result.index()] = result);
+        return Arrays.asList(results);
+    }
+
+    private static MazeJobResult build(int index, MazeSpec spec) {
+        long start = System.nanoTime();
+        try {
+            Maze maze = MazeFactory.createSolvedMaze(spec);
+            return new MazeJobResult(index, spec, maze, null, System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            return new MazeJobResult(index, spec, null, e, System.nanoTime() - start);
+        }
+    }
+
+    // Closes the maze, attaching a failure to close it to the failure being handled
+    private static void close(Maze maze, Throwable failure) {
+        try {
+            maze.close();
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private void acquire(int count) {
+        try {
+            slots.acquire(count);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a free batch slot.", e);
+        }
+    }
+
+    /**
+     * Waits for any running jobs and releases the threads of the batch.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
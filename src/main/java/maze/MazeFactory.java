@@ -1,9 +1,20 @@
 package maze;
 
+import heightmap.HeightMapProviderFactory;
 import heightmap.providers.HeightMapProvider;
+import heightmap.providers.ProceduralHMProvider;
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
 import lombok.experimental.UtilityClass;
 import maze.generator.GeneratorType;
 import maze.generator.MazeGenerator;
+import maze.generator.RowSink;
+import maze.generator.algorithms.EllerMazeGenerator;
+import maze.grid.LazyHeightGrid;
+import maze.grid.MazeGrid;
+import maze.grid.StorageType;
+import maze.io.MazeFile;
+import maze.io.MazeFileGrid;
 import maze.solver.MazeSolver;
 import maze.solver.SolverType;
 import maze.solver.functions.CostFunc;
@@ -11,24 +22,120 @@ import maze.solver.functions.CostFuncType;
 
 @UtilityClass
 public class MazeFactory {
+    // Picks seeds for specs that leave the seed to chance
+    private static final SecureRandom SEED_SOURCE = new SecureRandom();
+
+    /**
+     * Builds and solves the maze described by the spec. Each of the heightmap and the generator draws from its
+     * own stream split from the seed, so the heightmap does not shift the maze and vice versa. A lazy surface from a
+     * {@link ProceduralHMProvider} is computed as the heights are read, with the same heights as a filled one.
+     *
+     * @param spec the maze to build
+     * @return the solved maze, whose seed is the one it was built with
+     */
+    public static Maze createSolvedMaze(MazeSpec spec) {
+        long seed = seedOf(spec);
+        SplittableRandom random = new SplittableRandom(seed);
+        HeightMapProvider hmProvider = HeightMapProviderFactory.createProvider(
+            spec.surface().type(),
+            spec.surface().heightRange(),
+            spec.surface().parallelThreshold(),
+            random.split()
+        );
+        MazeGenerator generator = spec.generator().createGenerator(random.split(), spec.tileSize());
+
+        StorageType storage = spec.maze().storage();
+        MazeGrid grid;
+        if (spec.surface().lazy() && hmProvider instanceof ProceduralHMProvider procedural) {
+            // The lazy grid keeps the heights, so the storage only holds the walls
+            grid = new LazyHeightGrid(
+                storage.createWallGrid(spec.maze().width(), spec.maze().height()),
+                procedural::heightAt
+            );
+        } else {
+            grid = storage.createGrid(spec.maze().width(), spec.maze().height());
+        }
+        try {
+            CostFunc costFunc = spec.costFunc().createCostFunc(spec.surface().heightRange());
+            return createSolvedMaze(grid, seed, hmProvider, generator, spec.solver(), costFunc);
+        } catch (RuntimeException e) {
+            grid.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Picks the seed a maze is built with: the seed of the spec, or a random one if the spec leaves it to chance.
+     *
+     * @param spec the maze to build
+     * @return the seed to pass on with the spec
+     */
+    public static long seedOf(MazeSpec spec) {
+        return spec.maze().seed() != 0 ? spec.maze().seed() : SEED_SOURCE.nextLong();
+    }
+
+    /**
+     * Streams the maze described by the spec to the sink one row at a time, without building a grid, so memory
+     * depends on its width only. The maze is flat and is not solved. Its generator draws from the same stream as
+     * that of a built maze with the same seed.
+     *
+     * @param spec the maze to stream; its generator must be {@link GeneratorType#ELLER} without tiles
+     * @param seed the seed to build with, as picked by {@link #seedOf}
+     * @param sink receives the rows from the top
+     * @throws IllegalArgumentException if the spec describes a maze that cannot be streamed
+     */
+    public static void streamMaze(MazeSpec spec, long seed, RowSink sink) {
+        if (spec.generator() != GeneratorType.ELLER || spec.tileSize() != 0) {
+            throw new IllegalArgumentException("Only ELLER without tiles can stream mazes.");
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        random.split(); // The stream of the heightmap, which a streamed maze does not have
+
+        EllerMazeGenerator generator = new EllerMazeGenerator(random.split());
+        generator.generate(spec.maze().width(), spec.maze().height(), sink);
+    }
+
     public static Maze createSolvedMaze(
-        int width,
-        int height,
+        MazeGrid grid,
+        long seed,
         HeightMapProvider hmProvider,
-        GeneratorType generatorType,
+        MazeGenerator generator,
         SolverType solverType,
-        CostFuncType costFuncType
+        CostFunc costFunc
     ) {
-        MazeGenerator generator = generatorType.createGenerator();
-        CostFunc costFunc = costFuncType.createCostFunc();
         MazeSolver solver = solverType.createSolver(costFunc);
 
-        Maze maze = new Maze(width, height);
+        Maze maze = new Maze(grid, seed);
 
-        maze.setupSurfaceWith(hmProvider);
+        // A lazy grid computes its heights when they are read
+        if (!(grid instanceof LazyHeightGrid)) {
+            maze.setupSurfaceWith(hmProvider);
+        }
         maze.initWith(generator);
         maze.solveWith(solver);
 
         return maze;
     }
+
+    public static Maze loadSolvedMaze(
+        String path,
+        SolverType solverType,
+        CostFuncType costFuncType
+    ) {
+        MazeFileGrid grid = MazeFile.load(path);
+        try {
+            // The stored heights are bounded by the header, so the compiled costs are shared like for generated mazes
+            CostFunc costFunc = costFuncType.createCostFunc(grid.heightRange());
+            MazeSolver solver = solverType.createSolver(costFunc);
+
+            Maze maze = new Maze(grid, grid.seed());
+
+            maze.solveWith(solver);
+
+            return maze;
+        } catch (RuntimeException e) {
+            grid.close();
+            throw e;
+        }
+    }
 }
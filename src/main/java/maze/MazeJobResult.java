@@ -0,0 +1,16 @@
+package maze;
+
+/**
+ * The outcome of building one maze of a {@link MazeBatch}.
+ *
+ * @param index        the position of the spec in the batch
+ * @param spec         the spec the maze was built from
+ * @param maze         the solved maze, or null if the job failed; the receiver is responsible for closing it
+ * @param error        the exception that stopped the job, or null if it succeeded
+ * @param elapsedNanos the time the job took, in nanoseconds
+ */
+public record MazeJobResult(int index, MazeSpec spec, Maze maze, RuntimeException error, long elapsedNanos) {
+    public boolean succeeded() {
+        return error == null;
+    }
+}
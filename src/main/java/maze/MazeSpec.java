@@ -0,0 +1,64 @@
+package maze;
+
+import config.Configuration;
+import config.MazeConfig;
+import config.SurfaceConfig;
+import java.util.Objects;
+import maze.generator.GeneratorType;
+import maze.solver.SolverType;
+import maze.solver.functions.CostFuncType;
+
+/**
+ * Describes a maze to build and solve.
+ *
+ * <p>
+ * The loop probability and the solver options are not part of a spec; they are read from the configuration for
+ * every maze, as for a single one.
+ * </p>
+ *
+ * @param maze      the dimensions, storage and seed of the maze; a seed of 0 picks a random one
+ * @param surface   the heightmap provider and its height range
+ * @param generator the generator type
+ * @param tileSize  the tile size for parallel tiled generation, or 0 to generate the whole grid at once
+ * @param solver    the solver type
+ * @param costFunc  the cost function type
+ */
+public record MazeSpec(
+    MazeConfig maze,
+    SurfaceConfig surface,
+    GeneratorType generator,
+    int tileSize,
+    SolverType solver,
+    CostFuncType costFunc
+) {
+    /**
+     * Validates the spec.
+     */
+    public MazeSpec {
+        Objects.requireNonNull(maze, "Maze settings cannot be null");
+        Objects.requireNonNull(surface, "Surface settings cannot be null");
+        Objects.requireNonNull(generator, "Generator type cannot be null");
+        Objects.requireNonNull(solver, "Solver type cannot be null");
+        Objects.requireNonNull(costFunc, "Cost function type cannot be null");
+        if (tileSize < 0) {
+            throw new IllegalArgumentException("Tile size must be non-negative.");
+        }
+    }
+
+    /**
+     * Creates the spec of the maze described by the configuration.
+     *
+     * @param config the configuration
+     * @return the spec
+     */
+    public static MazeSpec fromConfig(Configuration config) {
+        return new MazeSpec(
+            config.maze(),
+            config.surface(),
+            config.generator().type(),
+            config.generator().tileSize(),
+            config.solver().type(),
+            config.costFunc().type()
+        );
+    }
+}
@@ -1,96 +1,76 @@
 package maze;
 
-import java.util.EnumMap;
-import java.util.Map;
 import lombok.Getter;
-import lombok.Setter;
 
 /**
- * Represents a node (cell) in a maze with coordinates, height, walls, and a visited flag.
+ * Represents a node (cell) in a maze with coordinates and height.
+ *
+ * <p>
+ * The maze itself is stored in a {@link maze.grid.MazeGrid}; nodes are lightweight snapshots of single cells,
+ * used to describe solution paths.
+ * </p>
+ *
+ * @param x      the x-coordinate of the node
+ * @param y      the y-coordinate of the node
+ * @param height the height of the node
  */
-@Getter
-@Setter
-public class Node {
-    private final int x;
-    private final int y;
-    private int height;
-    private final Walls walls;
-    private boolean visited;
-
-    /**
-     * Constructs a Node with specified coordinates and height.
-     *
-     * @param x the x-coordinate of the node
-     * @param y the y-coordinate of the node
-     * @param height the height of the node
-     */
-    public Node(int x, int y, int height) {
-        this.x = x;
-        this.y = y;
-        this.height = height;
-        this.walls = new Walls();
-        this.visited = false;
-    }
-
-    /**
-     * Constructs a Node with specified coordinates, height, and walls.
-     *
-     * @param x the x-coordinate of the node
-     * @param y the y-coordinate of the node
-     * @param height the height of the node
-     * @param walls the walls of the node
-     */
-    public Node(int x, int y, int height, Walls walls) {
-        this.x = x;
-        this.y = y;
-        this.height = height;
-        this.walls = walls;
-        this.visited = false;
-    }
-
+public record Node(int x, int y, int height) {
     /**
      * Enum representing possible wall directions.
+     * Each direction carries its coordinate offset and the bit used to store its wall in a grid.
      */
+    @Getter
     public enum Direction {
-        NORTH, SOUTH, EAST, WEST
-    }
+        NORTH(0, -1),
+        SOUTH(0, 1),
+        EAST(1, 0),
+        WEST(-1, 0);
 
-    /**
-     * Represents the walls of a node using an EnumMap for efficiency.
-     */
-    @Getter
-    @Setter
-    public static class Walls {
-        private final Map<Direction, Boolean> walls;
+        private static final Direction[] VALUES = values();
+
+        private final int dx;
+        private final int dy;
+        private final int mask;
+
+        Direction(int dx, int dy) {
+            this.dx = dx;
+            this.dy = dy;
+            this.mask = 1 << ordinal();
+        }
 
         /**
-         * Initializes all walls to be present.
+         * Retrieves the direction with the given ordinal without copying the values array.
+         *
+         * @param ordinal the ordinal of the direction, equal to the index of its bit in a mask
+         * @return the Direction with the given ordinal
          */
-        public Walls() {
-            walls = new EnumMap<>(Direction.class);
-            for (Direction direction : Direction.values()) {
-                walls.put(direction, Boolean.TRUE);
-            }
+        public static Direction of(int ordinal) {
+            return VALUES[ordinal];
         }
 
         /**
-         * Checks if a wall exists in the given direction.
+         * Retrieves the direction of the lowest bit set in the mask.
          *
-         * @param direction the direction to check
-         * @return true if the wall exists, false otherwise
+         * @param mask a non-empty direction bitmask
+         * @return the Direction of the lowest set bit
          */
-        public boolean hasWall(Direction direction) {
-            return walls.getOrDefault(direction, Boolean.FALSE);
+        public static Direction lowest(int mask) {
+            return VALUES[Integer.numberOfTrailingZeros(mask)];
         }
 
         /**
-         * Sets the presence of a wall in the given direction.
+         * Retrieves the n-th direction (counting from the lowest bit) set in the mask.
          *
-         * @param direction the direction to set
-         * @param exists whether the wall exists
+         * @param mask a direction bitmask
+         * @param n    the zero-based position among the set bits, less than {@code Integer.bitCount(mask)}
+         * @return the selected Direction
          */
-        public void setWall(Direction direction, boolean exists) {
-            walls.put(direction, exists);
+        public static Direction nth(int mask, int n) {
+            int remaining = mask;
+            for (int i = 0; i < n; i++) {
+                remaining &= remaining - 1; // Drop the lowest set bit
+            }
+            return lowest(remaining);
         }
     }
 }
@@ -1,46 +1,79 @@
 package maze.generator;
 
 import config.Config;
-import java.security.SecureRandom;
-import maze.Node;
+import java.util.SplittableRandom;
+import maze.grid.MazeGrid;
 import static maze.Maze.addLoops;
 import static maze.Maze.setupExits;
 
 public abstract class AbstractMazeGenerator implements MazeGenerator {
     // Probability to remove an additional wall to create loops
     protected static final double LOOP_PROBABILITY = Config.getInstance().generator().loopProbability();
-    protected final SecureRandom random;
+    // log2 of the number of bits in a word of a bitset
+    private static final int WORD_SHIFT = 6;
+    protected final SplittableRandom random;
 
-    public AbstractMazeGenerator() {
-        this.random = new SecureRandom();
+    // Visited flags, indexed by cell
+    protected boolean[] visited;
+
+    public AbstractMazeGenerator(SplittableRandom random) {
+        this.random = random;
     }
 
     @Override
-    public void generate(Node[][] grid) {
-        int height = grid.length;
-        if (height == 0) {
+    public void generate(MazeGrid grid) {
+        if (grid.height() == 0 || grid.width() == 0) {
             return;
         }
-        int width = grid[0].length;
 
-        initializeGrid(grid, height, width);
+        carve(grid);
 
-        generateMaze(grid, height, width);
+        addLoops(grid, LOOP_PROBABILITY, random);
+
+        setupExits(grid);
+    }
+
+    @Override
+    public void carve(MazeGrid grid) {
+        int height = grid.height();
+        int width = grid.width();
+        if (height == 0 || width == 0) {
+            return;
+        }
 
-        addLoops(grid, width, height, LOOP_PROBABILITY);
+        initializeGrid(grid);
 
-        setupExits(grid, width, height);
+        generateMaze(grid, height, width);
     }
 
     // Initialize all cells as unvisited
-    private void initializeGrid(Node[][] grid, int height, int width) {
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                grid[y][x].visited(false);
-            }
-        }
+    private void initializeGrid(MazeGrid grid) {
+        visited = usesVisited() ? new boolean[grid.size()] : null;
+    }
+
+    // Generators that track cells on their own override this to skip allocating and clearing the visited flags
+    protected boolean usesVisited() {
+        return true;
     }
 
     // Abstract method to be implemented by specific algorithms
-    protected abstract void generateMaze(Node[][] grid, int height, int width);
+    protected abstract void generateMaze(MazeGrid grid, int height, int width);
+
+    // Allocates a bitset with a bit for each of the given number of cells, all clear
+    protected static long[] newBitset(int size) {
+        return new long[(size + Long.SIZE - 1) >>> WORD_SHIFT];
+    }
+
+    protected static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> WORD_SHIFT] & 1L << index) != 0;
+    }
+
+    // Returns the bit as 0 or 1, for combining bits without branches
+    protected static int bit(long[] bits, int index) {
+        return (int) (bits[index >>> WORD_SHIFT] >>> index) & 1;
+    }
+
+    protected static void set(long[] bits, int index) {
+        bits[index >>> WORD_SHIFT] |= 1L << index;
+    }
 }
@@ -1,30 +1,83 @@
 package maze.generator;
 
+import java.util.SplittableRandom;
+import maze.generator.algorithms.BacktrackerMazeGenerator;
 import maze.generator.algorithms.DFSMazeGenerator;
+import maze.generator.algorithms.EllerMazeGenerator;
 import maze.generator.algorithms.KruskalMazeGenerator;
+import maze.generator.algorithms.ParallelKruskalMazeGenerator;
 import maze.generator.algorithms.PrimMazeGenerator;
+import maze.generator.algorithms.RandomizedPrimMazeGenerator;
+import maze.generator.algorithms.RecursiveDivisionMazeGenerator;
 
 public enum GeneratorType {
     DFS {
         @Override
-        public MazeGenerator createGenerator() {
-            return new DFSMazeGenerator();
+        public MazeGenerator createGenerator(SplittableRandom random) {
+            return new DFSMazeGenerator(random);
+        }
+    },
+    BACKTRACKER {
+        @Override
+        public MazeGenerator createGenerator(SplittableRandom random) {
+            return new BacktrackerMazeGenerator(random);
         }
     },
     KRUSKAL {
         @Override
-        public MazeGenerator createGenerator() {
-            return new KruskalMazeGenerator();
+        public MazeGenerator createGenerator(SplittableRandom random) {
+            return new KruskalMazeGenerator(random);
         }
     },
     PRIM {
         @Override
-        public MazeGenerator createGenerator() {
-            return new PrimMazeGenerator();
+        public MazeGenerator createGenerator(SplittableRandom random) {
+            return new PrimMazeGenerator(random);
+        }
+    },
+    RANDOMIZED_PRIM {
+        @Override
+        public MazeGenerator createGenerator(SplittableRandom random) {
+            return new RandomizedPrimMazeGenerator(random);
+        }
+    },
+    PARALLEL_KRUSKAL {
+        @Override
+        public MazeGenerator createGenerator(SplittableRandom random) {
+            return new ParallelKruskalMazeGenerator(random);
+        }
+    },
+    ELLER {
+        @Override
+        public MazeGenerator createGenerator(SplittableRandom random) {
+            return new EllerMazeGenerator(random);
+        }
+    },
+    RECURSIVE_DIVISION {
+        @Override
+        public MazeGenerator createGenerator(SplittableRandom random) {
+            return new RecursiveDivisionMazeGenerator(random);
         }
     };
 
-    public abstract MazeGenerator createGenerator();
+    /**
+     * Creates a generator of this type.
+     *
+     * @param random the source of every random choice of the generator
+     * @return the generator
+     */
+    public abstract MazeGenerator createGenerator(SplittableRandom random);
+
+    /**
+     * Creates a generator of this type, carving tiles of the given size in parallel if it is positive.
+     *
+     * @param random   the source of every random choice of the generator
+     * @param tileSize the width and height of a tile in cells, or 0 to generate the whole grid at once
+     * @return the generator
+     */
+    public MazeGenerator createGenerator(SplittableRandom random, int tileSize) {
+        return tileSize > 0 ? new TiledMazeGenerator(this, tileSize, random) : createGenerator(random);
+    }
 
     public static GeneratorType fromString(String typeStr) {
         try {
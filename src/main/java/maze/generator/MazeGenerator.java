@@ -1,7 +1,14 @@
 package maze.generator;
 
-import maze.Node;
+import maze.grid.MazeGrid;
 
 public interface MazeGenerator {
-    void generate(Node[][] grid);
+    void generate(MazeGrid grid);
+
+    /**
+     * Carves a perfect maze into the grid: every cell is reachable and there are no loops or exits.
+     *
+     * @param grid the maze grid, with all walls in place
+     */
+    void carve(MazeGrid grid);
 }
@@ -0,0 +1,33 @@
+package maze.generator;
+
+/**
+ * Consumes a maze one row at a time, as produced by a streaming generator.
+ *
+ * <p>
+ * Rows arrive in order from the top. The wall array is reused for the next row, so a sink must copy or write out
+ * what it needs before returning.
+ * </p>
+ */
+@FunctionalInterface
+public interface RowSink {
+    /**
+     * Accepts the next row of the maze.
+     *
+     * @param row   the index of the row, counted from the top
+     * @param walls the wall bitmask of each cell in the row, from west to east
+     */
+    void accept(long row, byte[] walls);
+
+    /**
+     * Returns a sink that passes every row to this sink and then to the next one.
+     *
+     * @param next the sink that receives each row after this one
+     * @return the combined sink
+     */
+    default RowSink andThen(RowSink next) {
+        return (row, walls) -> {
+            accept(row, walls);
+            next.accept(row, walls);
+        };
+    }
+}
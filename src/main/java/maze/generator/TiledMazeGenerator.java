@@ -0,0 +1,179 @@
+package maze.generator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import maze.Node.Direction;
+import maze.grid.MazeGrid;
+import maze.grid.SubGrid;
+import static maze.Maze.addLoops;
+import static maze.Maze.removeWall;
+import static maze.Maze.setupExits;
+
+/**
+ * Generates a maze by splitting the grid into square tiles, carving each tile in parallel and stitching them.
+ *
+ * <p>
+ * Every tile receives a perfect maze from its own generator of the configured type. The tiles are then joined
+ * along a random spanning tree of the tile grid, opening exactly one random wall on each chosen seam.
+ * Since each tile is a tree and the tiles are joined by a tree, the whole maze is connected and acyclic
+ * before loops and exits are added.
+ * </p>
+ *
+ * <p>
+ * Each tile draws from its own random stream, split from the generator's stream in tile order before any tile is
+ * carved, so the maze does not depend on which thread carves which tile.
+ * </p>
+ */
+public class TiledMazeGenerator implements MazeGenerator {
+    private final GeneratorType tileType;
+    private final int tileSize;
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a TiledMazeGenerator.
+     *
+     * @param tileType the generator used for each tile
+     * @param tileSize the width and height of a tile, in cells
+     * @param random   the source of every random choice of the generator
+     */
+    public TiledMazeGenerator(GeneratorType tileType, int tileSize, SplittableRandom random) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Tile size must be positive.");
+        }
+        this.tileType = tileType;
+        this.tileSize = tileSize;
+        this.random = random;
+    }
+
+    @Override
+    public void generate(MazeGrid grid) {
+        carve(grid);
+
+        addLoops(grid, AbstractMazeGenerator.LOOP_PROBABILITY, random);
+
+        setupExits(grid);
+    }
+
+    @Override
+    public void carve(MazeGrid grid) {
+        int tilesX = Math.ceilDiv(grid.width(), tileSize);
+        int tilesY = Math.ceilDiv(grid.height(), tileSize);
+
+        SplittableRandom[] streams = new SplittableRandom[tilesX * tilesY];
+        for (int tile = 0; tile < streams.length; tile++) {
+            streams[tile] = random.split();
+        }
+
+        ForkJoinPool.commonPool().invoke(new CarveTiles(grid, tilesX, streams, 0, streams.length));
+
+        stitch(grid, tilesX, tilesY);
+    }
+
+    // Opens one wall on each seam of a random spanning tree of the tiles, found with Kruskal's algorithm
+    private void stitch(MazeGrid grid, int tilesX, int tilesY) {
+        int tiles = tilesX * tilesY;
+
+        // Seams are packed as tile << 1 | side, where side 0 joins the tile to the east and 1 to the south
+        int[] seams = new int[tiles * 2];
+        int count = 0;
+        for (int tile = 0; tile < tiles; tile++) {
+            if (tile % tilesX < tilesX - 1) {
+                seams[count++] = tile << 1;
+            }
+            if (tile / tilesX < tilesY - 1) {
+                seams[count++] = tile << 1 | 1;
+            }
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int seam = seams[i];
+            seams[i] = seams[j];
+            seams[j] = seam;
+        }
+
+        int[] parent = new int[tiles];
+        for (int tile = 0; tile < tiles; tile++) {
+            parent[tile] = tile;
+        }
+
+        for (int i = 0; i < count; i++) {
+            int tile = seams[i] >>> 1;
+            boolean south = (seams[i] & 1) == 1;
+            int other = south ? tile + tilesX : tile + 1;
+
+            int tileRoot = find(parent, tile);
+            int otherRoot = find(parent, other);
+            if (tileRoot != otherRoot) {
+                parent[otherRoot] = tileRoot;
+                openSeam(grid, tile % tilesX, tile / tilesX, south);
+            }
+        }
+    }
+
+    // Opens a random wall on the east or south edge of the tile
+    private void openSeam(MazeGrid grid, int tileX, int tileY, boolean south) {
+        int x0 = tileX * tileSize;
+        int y0 = tileY * tileSize;
+        if (south) {
+            int x = x0 + random.nextInt(Math.min(tileSize, grid.width() - x0));
+            int cell = grid.index(x, y0 + tileSize - 1);
+            removeWall(grid, cell, cell + grid.offset(Direction.SOUTH), Direction.SOUTH);
+        } else {
+            int y = y0 + random.nextInt(Math.min(tileSize, grid.height() - y0));
+            int cell = grid.index(x0 + tileSize - 1, y);
+            removeWall(grid, cell, cell + grid.offset(Direction.EAST), Direction.EAST);
+        }
+    }
+
+    private static int find(int[] parent, int tile) {
+        int current = tile;
+        while (parent[current] != current) {
+            parent[current] = parent[parent[current]];
+            current = parent[current];
+        }
+        return current;
+    }
+
+    /**
+     * Carves a range of tiles, splitting it in half until a single tile is left.
+     */
+    private final class CarveTiles extends RecursiveAction {
+        private final MazeGrid grid;
+        private final int tilesX;
+        private final SplittableRandom[] streams;
+        private final int from;
+        private final int to;
+
+        CarveTiles(MazeGrid grid, int tilesX, SplittableRandom[] streams, int from, int to) {
+            this.grid = grid;
+            this.tilesX = tilesX;
+            this.streams = streams;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                    new CarveTiles(grid, tilesX, streams, from, middle),
+                    new CarveTiles(grid, tilesX, streams, middle, to)
+                );
+                return;
+            }
+
+            int x0 = from % tilesX * tileSize;
+            int y0 = from / tilesX * tileSize;
+            MazeGrid tile = new SubGrid(
+                grid,
+                x0,
+                y0,
+                Math.min(tileSize, grid.width() - x0),
+                Math.min(tileSize, grid.height() - y0)
+            );
+            tileType.createGenerator(streams[from]).carve(tile);
+        }
+    }
+}
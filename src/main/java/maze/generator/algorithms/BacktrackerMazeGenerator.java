@@ -0,0 +1,92 @@
+package maze.generator.algorithms;
+
+import java.util.SplittableRandom;
+import maze.Node.Direction;
+import maze.generator.AbstractMazeGenerator;
+import maze.grid.MazeGrid;
+
+/**
+ * Generates a maze with the recursive backtracker, a randomized depth-first search, without allocating per step.
+ *
+ * <p>
+ * The path is kept on an {@code int[]} stack of cell indices and visited cells in a {@code long[]} bitset.
+ * Unvisited neighbors are found without branching on the grid edges: a neighbor outside the grid is replaced by
+ * the cell itself, which is always visited, so every direction reads one bit. The random pick among them is read
+ * from a table indexed by the neighbor mask.
+ * </p>
+ */
+public class BacktrackerMazeGenerator extends AbstractMazeGenerator {
+    private static final int DIRECTIONS = Direction.values().length;
+    // Ordinal of the n-th direction set in a mask, indexed by mask * DIRECTIONS + n
+    private static final byte[] NTH_DIRECTION = new byte[(MazeGrid.ALL_WALLS + 1) * DIRECTIONS];
+
+    static {
+        for (int mask = 1; mask <= MazeGrid.ALL_WALLS; mask++) {
+            for (int n = 0; n < Integer.bitCount(mask); n++) {
+                NTH_DIRECTION[mask * DIRECTIONS + n] = (byte) Direction.nth(mask, n).ordinal();
+            }
+        }
+    }
+
+    public BacktrackerMazeGenerator(SplittableRandom random) {
+        super(random);
+    }
+
+    @Override
+    protected boolean usesVisited() {
+        return false;
+    }
+
+    @Override
+    protected void generateMaze(MazeGrid grid, int height, int width) {
+        int size = grid.size();
+        int[] offsets = new int[DIRECTIONS];
+        for (int ordinal = 0; ordinal < DIRECTIONS; ordinal++) {
+            offsets[ordinal] = grid.offset(Direction.of(ordinal));
+        }
+
+        long[] seen = newBitset(size);
+        // The path can cover every cell
+        int[] stack = new int[size];
+        int top = 0;
+
+        // Start from the top-left corner
+        int start = grid.index(0, 0);
+        set(seen, start);
+        stack[top++] = start;
+
+        while (top > 0) {
+            int current = stack[top - 1];
+            int unvisited = unvisitedNeighbors(seen, current, width, size);
+
+            if (unvisited != 0) {
+                // Randomly select an unvisited neighbor
+                int ordinal = NTH_DIRECTION[unvisited * DIRECTIONS + random.nextInt(Integer.bitCount(unvisited))];
+                int neighbor = current + offsets[ordinal];
+
+                // Opposite directions differ in the lowest bit of their ordinals
+                grid.setWalls(current, grid.walls(current) & ~(1 << ordinal));
+                grid.setWalls(neighbor, grid.walls(neighbor) & ~(1 << (ordinal ^ 1)));
+                set(seen, neighbor);
+                stack[top++] = neighbor;
+            } else {
+                // Backtrack
+                top--;
+            }
+        }
+    }
+
+    // Returns a direction bitmask of the neighbors inside the grid that have not been visited
+    private static int unvisitedNeighbors(long[] seen, int cell, int width, int size) {
+        int x = cell % width;
+        int north = cell >= width ? cell - width : cell;
+        int south = cell < size - width ? cell + width : cell;
+        int east = x < width - 1 ? cell + 1 : cell;
+        int west = x > 0 ? cell - 1 : cell;
+
+        return (bit(seen, north) ^ 1) << Direction.NORTH.ordinal()
+            | (bit(seen, south) ^ 1) << Direction.SOUTH.ordinal()
+            | (bit(seen, east) ^ 1) << Direction.EAST.ordinal()
+            | (bit(seen, west) ^ 1) << Direction.WEST.ordinal();
+    }
+}
@@ -1,51 +1,45 @@
 package maze.generator.algorithms;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.List;
-import maze.Node;
+import java.util.SplittableRandom;
 import maze.Node.Direction;
 import maze.generator.AbstractMazeGenerator;
-import util.Pair;
-import static maze.Maze.getNeighborCoordinates;
+import maze.grid.MazeGrid;
 import static maze.Maze.getUnvisitedNeighbors;
 import static maze.Maze.removeWall;
 
 public class DFSMazeGenerator extends AbstractMazeGenerator {
-    public DFSMazeGenerator() {
+    public DFSMazeGenerator(SplittableRandom random) {
+        super(random);
     }
 
     @Override
-    protected void generateMaze(Node[][] grid, int height, int width) {
-        // Stack for DFS
-        Deque<Node> nodes = new ArrayDeque<>();
+    protected void generateMaze(MazeGrid grid, int height, int width) {
+        // Stack of cell indices for DFS; the path can cover every cell
+        int[] stack = new int[grid.size()];
+        int top = 0;
 
         // Start from the top-left corner
-        Node start = grid[0][0];
-        start.visited(true);
-        nodes.push(start);
+        int start = grid.index(0, 0);
+        visited[start] = true;
+        stack[top++] = start;
 
-        while (!nodes.isEmpty()) {
-            Node current = nodes.peek();
-            List<Direction> unvisitedNeighbors = getUnvisitedNeighbors(current, grid, width, height);
+        while (top > 0) {
+            int current = stack[top - 1];
+            int unvisitedNeighbors = getUnvisitedNeighbors(grid, current, visited);
 
-            if (!unvisitedNeighbors.isEmpty()) {
+            if (unvisitedNeighbors != 0) {
                 // Randomly select an unvisited neighbor
-                Direction direction = unvisitedNeighbors.get(random.nextInt(unvisitedNeighbors.size()));
-                Pair<Integer, Integer> neighborCoords = getNeighborCoordinates(current, direction, width, height);
-                if (neighborCoords != null) {
-                    // Corrected the order of indices here
-                    Node neighbor = grid[neighborCoords.value()][neighborCoords.key()];
-                    if (!neighbor.visited()) {
-                        // Remove walls between current and neighbor
-                        removeWall(current, neighbor, direction);
-                        neighbor.visited(true);
-                        nodes.push(neighbor);
-                    }
-                }
+                Direction direction = Direction.nth(unvisitedNeighbors,
+                    random.nextInt(Integer.bitCount(unvisitedNeighbors)));
+                int neighbor = current + grid.offset(direction);
+
+                // Remove walls between current and neighbor
+                removeWall(grid, current, neighbor, direction);
+                visited[neighbor] = true;
+                stack[top++] = neighbor;
             } else {
                 // Backtrack
-                nodes.pop();
+                top--;
             }
         }
     }
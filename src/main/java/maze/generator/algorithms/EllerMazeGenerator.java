@@ -0,0 +1,189 @@
+package maze.generator.algorithms;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import maze.Node.Direction;
+import maze.generator.AbstractMazeGenerator;
+import maze.generator.RowSink;
+import maze.grid.MazeGrid;
+
+/**
+ * Generates a maze row by row with Eller's algorithm.
+ *
+ * <p>
+ * Only the set label of each cell in the current row is kept. Within a row, adjacent cells of different sets
+ * are randomly joined; then every set opens at least one cell downward, which carries its label into the next
+ * row. The last row joins all remaining sets. Memory is proportional to the width, so mazes can be streamed
+ * to a {@link RowSink} regardless of their height.
+ * </p>
+ */
+public class EllerMazeGenerator extends AbstractMazeGenerator {
+    private static final int NONE = -1;
+
+    public EllerMazeGenerator(SplittableRandom random) {
+        super(random);
+    }
+
+    @Override
+    protected void generateMaze(MazeGrid grid, int height, int width) {
+        // Loops and exits are added to the whole grid afterwards
+        stream(width, height, 0.0, false, (row, walls) -> {
+            int first = (int) row * width;
+            for (int x = 0; x < width; x++) {
+                grid.setWalls(first + x, walls[x]);
+            }
+        });
+    }
+
+    /**
+     * Streams a maze with loops and exits to the sink, one row at a time, without keeping it in memory.
+     *
+     * @param width  the width of the maze
+     * @param height the height of the maze
+     * @param sink   the consumer of the rows
+     * @throws IllegalArgumentException if the width or height is not positive
+     */
+    public void generate(int width, long height, RowSink sink) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Maze dimensions must be positive.");
+        }
+        stream(width, height, LOOP_PROBABILITY, true, sink);
+    }
+
+    private void stream(int width, long height, double loopProbability, boolean exits, RowSink sink) {
+        RowState state = new RowState(width, loopProbability);
+
+        for (long row = 0; row < height; row++) {
+            boolean last = row == height - 1;
+
+            state.startRow();
+            if (row == 0 && exits) {
+                state.walls[0] &= (byte) ~Direction.NORTH.mask();
+            }
+
+            state.joinAcross(last);
+
+            if (last) {
+                if (exits) {
+                    state.walls[width - 1] &= (byte) ~Direction.SOUTH.mask();
+                }
+            } else {
+                state.openDownward();
+            }
+
+            sink.accept(row, state.walls);
+        }
+    }
+
+    private static int find(int[] parent, int label) {
+        int current = label;
+        while (parent[current] != current) {
+            parent[current] = parent[parent[current]];
+            current = parent[current];
+        }
+        return current;
+    }
+
+    /**
+     * The sets and walls of the current row; every array has one entry per column.
+     */
+    private final class RowState {
+        private final int width;
+        private final double loopProbability;
+        private final int[] labels;        // Set of each cell in the current row
+        private final int[] parent;        // Union-find over the labels of the current row
+        private final int[] remap;         // Compacts the labels carried down from the previous row
+        private final int[] setSize;       // Number of cells of each set in the row
+        private final int[] candidate;     // Random cell of each set, opened downward if no other was
+        private final boolean[] hasDown;
+        private final boolean[] openUp;    // Whether each cell is open to the row above
+        private final byte[] walls;
+
+        RowState(int width, double loopProbability) {
+            this.width = width;
+            this.loopProbability = loopProbability;
+            this.labels = new int[width];
+            this.parent = new int[width];
+            this.remap = new int[width];
+            this.setSize = new int[width];
+            this.candidate = new int[width];
+            this.hasDown = new boolean[width];
+            this.openUp = new boolean[width];
+            this.walls = new byte[width];
+        }
+
+        // Cells opened from above keep their set, others start a new one; labels stay below the width
+        void startRow() {
+            Arrays.fill(remap, NONE);
+            int nextLabel = 0;
+            for (int x = 0; x < width; x++) {
+                if (openUp[x]) {
+                    if (remap[labels[x]] == NONE) {
+                        remap[labels[x]] = nextLabel++;
+                    }
+                    labels[x] = remap[labels[x]];
+                }
+            }
+            for (int x = 0; x < width; x++) {
+                if (!openUp[x]) {
+                    labels[x] = nextLabel++;
+                }
+                parent[labels[x]] = labels[x];
+                walls[x] = (byte) (openUp[x] ? MazeGrid.ALL_WALLS & ~Direction.NORTH.mask() : MazeGrid.ALL_WALLS);
+            }
+        }
+
+        // Randomly joins adjacent cells of different sets; the last row must join them all
+        void joinAcross(boolean last) {
+            for (int x = 0; x < width - 1; x++) {
+                int left = find(parent, labels[x]);
+                int right = find(parent, labels[x + 1]);
+                boolean join = left != right && (last || random.nextBoolean());
+                if (join) {
+                    parent[right] = left;
+                }
+                if (join || loopProbability > 0 && random.nextDouble() < loopProbability) {
+                    walls[x] &= (byte) ~Direction.EAST.mask();
+                    walls[x + 1] &= (byte) ~Direction.WEST.mask();
+                }
+            }
+            for (int x = 0; x < width; x++) {
+                labels[x] = find(parent, labels[x]);
+            }
+        }
+
+        // Opens random cells downward, at least one per set, so that they are open upward in the next row
+        void openDownward() {
+            Arrays.fill(setSize, 0);
+            Arrays.fill(hasDown, false);
+
+            for (int x = 0; x < width; x++) {
+                int label = labels[x];
+                openUp[x] = random.nextBoolean();
+                hasDown[label] |= openUp[x];
+
+                // Reservoir sampling picks a uniformly random cell of the set in one pass
+                if (random.nextInt(++setSize[label]) == 0) {
+                    candidate[label] = x;
+                }
+            }
+
+            for (int x = 0; x < width; x++) {
+                int label = labels[x];
+                if (!hasDown[label]) {
+                    openUp[candidate[label]] = true;
+                    hasDown[label] = true;
+                }
+            }
+
+            for (int x = 0; x < width; x++) {
+                if (!openUp[x] && loopProbability > 0 && random.nextDouble() < loopProbability) {
+                    openUp[x] = true;
+                }
+                if (openUp[x]) {
+                    walls[x] &= (byte) ~Direction.SOUTH.mask();
+                }
+            }
+        }
+    }
+}
@@ -3,40 +3,33 @@ package maze.generator.algorithms;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import maze.Node;
+import java.util.SplittableRandom;
 import maze.Node.Direction;
 import maze.generator.AbstractMazeGenerator;
-import util.Pair;
-import static maze.Maze.getNeighborCoordinates;
+import maze.grid.MazeGrid;
 import static maze.Maze.removeWall;
 
 public class KruskalMazeGenerator extends AbstractMazeGenerator {
-    public KruskalMazeGenerator() {
+    public KruskalMazeGenerator(SplittableRandom random) {
+        super(random);
     }
 
     @Override
-    protected void generateMaze(Node[][] grid, int height, int width) {
+    protected void generateMaze(MazeGrid grid, int height, int width) {
         // Initialize disjoint sets for each cell
         DisjointSet ds = new DisjointSet(width * height);
 
         // List of all walls between cells
         List<Wall> walls = new ArrayList<>();
 
+        // To avoid duplicate walls, only add walls where neighbor is to the west or south
+        int candidates = Direction.WEST.mask() | Direction.SOUTH.mask();
+
         // Populate the walls list
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                Node current = grid[y][x];
-                for (Direction dir : Direction.values()) {
-                    Pair<Integer, Integer> neighborCoords = getNeighborCoordinates(current, dir, width, height);
-                    if (neighborCoords != null) {
-                        int nx = neighborCoords.key();
-                        int ny = neighborCoords.value();
-                        // To avoid duplicate walls, only add walls where neighbor is to the west or south
-                        if (dir == Direction.WEST || dir == Direction.SOUTH) {
-                            walls.add(new Wall(x, y, dir));
-                        }
-                    }
-                }
+        int size = grid.size();
+        for (int cell = 0; cell < size; cell++) {
+            for (int mask = grid.neighborMask(cell) & candidates; mask != 0; mask &= mask - 1) {
+                walls.add(new Wall(cell, Direction.lowest(mask)));
             }
         }
 
@@ -45,37 +38,26 @@ public class KruskalMazeGenerator extends AbstractMazeGenerator {
 
         // Process each wall in random order
         for (Wall wall : walls) {
-            int cell1 = wall.y * width + wall.x;
-            Pair<Integer, Integer> neighborCoords = getNeighborCoordinates(grid[wall.y][wall.x], wall.direction,
-                width, height);
-            if (neighborCoords == null) {
-                continue;
-            }
-            int nx = neighborCoords.key();
-            int ny = neighborCoords.value();
-            int cell2 = ny * width + nx;
+            int cell1 = wall.cell;
+            int cell2 = cell1 + grid.offset(wall.direction);
 
             // If cells are in different sets, remove the wall and union the sets
             if (ds.find(cell1) != ds.find(cell2)) {
-                Node node1 = grid[wall.y][wall.x];
-                Node node2 = grid[ny][nx];
-                removeWall(node1, node2, wall.direction);
+                removeWall(grid, cell1, cell2, wall.direction);
                 ds.union(cell1, cell2);
-                node1.visited(true);
-                node2.visited(true);
+                visited[cell1] = true;
+                visited[cell2] = true;
             }
         }
     }
 
     // Helper class to represent walls between cells
     private static class Wall {
-        int x;
-        int y;
+        int cell;
         Direction direction;
 
-        Wall(int x, int y, Direction direction) {
-            this.x = x;
-            this.y = y;
+        Wall(int cell, Direction direction) {
+            this.cell = cell;
             this.direction = direction;
         }
     }
@@ -95,10 +77,12 @@ public class KruskalMazeGenerator extends AbstractMazeGenerator {
         }
 
         int find(int x) {
-            if (parent[x] != x) {
-                parent[x] = find(parent[x]); // Path compression
+            int current = x;
+            while (parent[current] != current) {
+                parent[current] = parent[parent[current]]; // Path halving, without recursion
+                current = parent[current];
             }
-            return parent[x];
+            return current;
         }
 
         void union(int x, int y) {
@@ -0,0 +1,208 @@
+package maze.generator.algorithms;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+import maze.Node.Direction;
+import maze.generator.AbstractMazeGenerator;
+import maze.grid.MazeGrid;
+
+/**
+ * Generates a maze with Kruskal's algorithm, processing walls on all cores.
+ *
+ * <p>
+ * Walls are packed into an {@code int[]} as {@code cell << 1 | side}, where side 0 is the EAST wall and 1 the
+ * SOUTH wall, and shuffled once. They are then processed in rounds of deterministic reservations: every wall of a
+ * round finds the roots of its two cells in a shared lock-free union-find and bids its position on both roots,
+ * keeping the earliest bid. A wall that won one of its roots links it to the other and is removed; a wall whose
+ * cells share a root stays; any other wall is retried in the next round. The opened walls are exactly those the
+ * sequential algorithm would open for the same order, so the maze depends only on the random state and not on
+ * thread timing. Walls are only recorded while rounds run and carved into the grid afterwards, one cell per write,
+ * so no two threads ever update the same cell.
+ * </p>
+ */
+public class ParallelKruskalMazeGenerator extends AbstractMazeGenerator {
+    // Bands per core, so that uneven progress still keeps every core busy
+    private static final int BANDS_PER_THREAD = 4;
+    // Walls reserved per round; few walls lose their bids, so most of a round is new walls
+    private static final int ROUND_SIZE = 65_536;
+    private static final int FREE = Integer.MAX_VALUE;
+
+    public ParallelKruskalMazeGenerator(SplittableRandom random) {
+        super(random);
+    }
+
+    @Override
+    protected boolean usesVisited() {
+        return false;
+    }
+
+    @Override
+    protected void generateMaze(MazeGrid grid, int height, int width) {
+        // Walls are numbered cell << 1 | side, up to twice the number of cells
+        if (grid.size() > Integer.MAX_VALUE >>> 1) {
+            throw new IllegalArgumentException("Maze is too large to pack its walls into an int.");
+        }
+        boolean[] opened = new boolean[grid.size() * 2];
+
+        int[] walls = collectWalls(width, height);
+        shuffle(walls, random);
+        connect(walls, width, grid.size(), opened);
+
+        // Carve the recorded walls; each cell reads the walls it shares with its west and north neighbors
+        int bands = Math.min(height, Runtime.getRuntime().availableProcessors() * BANDS_PER_THREAD);
+        IntStream.range(0, bands).parallel().forEach(band -> {
+            int fromCell = (int) ((long) height * band / bands) * width;
+            int toCell = (int) ((long) height * (band + 1) / bands) * width;
+            for (int cell = fromCell; cell < toCell; cell++) {
+                int open = 0;
+                if (opened[cell << 1]) {
+                    open |= Direction.EAST.mask();
+                }
+                if (opened[cell << 1 | 1]) {
+                    open |= Direction.SOUTH.mask();
+                }
+                if (cell % width != 0 && opened[(cell - 1) << 1]) {
+                    open |= Direction.WEST.mask();
+                }
+                if (cell >= width && opened[(cell - width) << 1 | 1]) {
+                    open |= Direction.NORTH.mask();
+                }
+                if (open != 0) {
+                    grid.setWalls(cell, grid.walls(cell) & ~open);
+                }
+            }
+        });
+    }
+
+    // Marks the walls of a spanning tree in opened, preferring earlier walls like the sequential algorithm
+    private static void connect(int[] walls, int width, int size, boolean[] opened) {
+        ConcurrentDisjointSet ds = new ConcurrentDisjointSet(size);
+        AtomicIntegerArray reservations = new AtomicIntegerArray(size);
+        for (int cell = 0; cell < size; cell++) {
+            reservations.set(cell, FREE);
+        }
+
+        int[] round = new int[Math.min(ROUND_SIZE, walls.length)];
+        int[] roots = new int[round.length * 2];
+        int retries = 0;
+        int next = 0;
+        while (retries > 0 || next < walls.length) {
+            // Retried walls come first and keep their order, so positions in the round follow the shuffle
+            int count = Math.min(round.length, retries + walls.length - next);
+            System.arraycopy(walls, next, round, retries, count - retries);
+            next += count - retries;
+
+            IntStream.range(0, count).parallel().forEach(i -> {
+                int wall = round[i];
+                int cell = wall >>> 1;
+                int a = ds.find(cell);
+                int b = ds.find(cell + ((wall & 1) == 0 ? 1 : width));
+                roots[i << 1] = a;
+                roots[i << 1 | 1] = b;
+                if (a != b) {
+                    reserve(reservations, a, i);
+                    reserve(reservations, b, i);
+                }
+            });
+
+            // Each root is reserved by a single wall, so no root is linked twice in a round
+            IntStream.range(0, count).parallel().forEach(i -> {
+                int a = roots[i << 1];
+                int b = roots[i << 1 | 1];
+                if (a == b) {
+                    return;
+                }
+                if (reservations.get(a) == i) {
+                    ds.link(a, b);
+                    opened[round[i]] = true;
+                } else if (reservations.get(b) == i) {
+                    ds.link(b, a);
+                    opened[round[i]] = true;
+                }
+            });
+
+            IntStream.range(0, count).parallel().forEach(i -> {
+                reservations.set(roots[i << 1], FREE);
+                reservations.set(roots[i << 1 | 1], FREE);
+            });
+
+            retries = 0;
+            for (int i = 0; i < count; i++) {
+                if (roots[i << 1] != roots[i << 1 | 1] && !opened[round[i]]) {
+                    round[retries++] = round[i];
+                }
+            }
+        }
+    }
+
+    // Keeps the smallest position bid on the root
+    private static void reserve(AtomicIntegerArray reservations, int root, int position) {
+        int current = reservations.get(root);
+        while (position < current && !reservations.compareAndSet(root, current, position)) {
+            current = reservations.get(root);
+        }
+    }
+
+    // Packs the EAST and SOUTH walls that separate two cells
+    private static int[] collectWalls(int width, int height) {
+        int[] walls = new int[height * (width - 1) + (height - 1) * width];
+
+        int count = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int cell = y * width + x;
+                if (x < width - 1) {
+                    walls[count++] = cell << 1;
+                }
+                if (y < height - 1) {
+                    walls[count++] = cell << 1 | 1;
+                }
+            }
+        }
+        return walls;
+    }
+
+    // Fisher-Yates shuffle
+    private static void shuffle(int[] values, SplittableRandom random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    /**
+     * Lock-free union-find. Lookups halve paths with compare-and-set while other threads look up concurrently;
+     * roots are only linked while no lookups run.
+     */
+    private static class ConcurrentDisjointSet {
+        private final AtomicIntegerArray parent;
+
+        ConcurrentDisjointSet(int size) {
+            parent = new AtomicIntegerArray(size);
+            for (int i = 0; i < size; i++) {
+                parent.set(i, i);
+            }
+        }
+
+        int find(int x) {
+            int current = x;
+            int next = parent.get(current);
+            while (next != current) {
+                int grandparent = parent.get(next);
+                // Path halving; losing the race to another thread is harmless
+                parent.compareAndSet(current, next, grandparent);
+                current = grandparent;
+                next = parent.get(current);
+            }
+            return current;
+        }
+
+        // Attaches the root of one set under the root of another
+        void link(int root, int newRoot) {
+            parent.set(root, newRoot);
+        }
+    }
+}
@@ -2,61 +2,48 @@ package maze.generator.algorithms;
 
 import java.util.Comparator;
 import java.util.PriorityQueue;
-import maze.Node;
+import java.util.SplittableRandom;
 import maze.Node.Direction;
 import maze.generator.AbstractMazeGenerator;
-import util.Pair;
-import static maze.Maze.getNeighborCoordinates;
+import maze.grid.MazeGrid;
 import static maze.Maze.removeWall;
 
 public class PrimMazeGenerator extends AbstractMazeGenerator {
-    public PrimMazeGenerator() {
+    public PrimMazeGenerator(SplittableRandom random) {
+        super(random);
     }
 
     @Override
-    protected void generateMaze(Node[][] grid, int height, int width) {
+    protected void generateMaze(MazeGrid grid, int height, int width) {
         // Priority queue to store walls with random priorities
         PriorityQueue<Wall> walls = new PriorityQueue<>(Comparator.comparingDouble(w -> w.priority));
 
         // Start from a random cell
         int startY = random.nextInt(height);
         int startX = random.nextInt(width);
-        Node start = grid[startY][startX];
-        start.visited(true);
+        int start = grid.index(startX, startY);
+        visited[start] = true;
 
         // Add all walls of the starting cell to the wall list
-        for (Direction dir : Direction.values()) {
-            Pair<Integer, Integer> neighborCoords = getNeighborCoordinates(start, dir, width, height);
-            if (neighborCoords != null) {
-                walls.add(new Wall(start, dir, random.nextDouble()));
-            }
+        for (int mask = grid.neighborMask(start); mask != 0; mask &= mask - 1) {
+            walls.add(new Wall(start, Direction.lowest(mask), random.nextDouble()));
         }
 
         while (!walls.isEmpty()) {
             Wall currentWall = walls.poll();
-            Node current = currentWall.node;
             Direction direction = currentWall.direction;
-            Pair<Integer, Integer> neighborCoords = getNeighborCoordinates(current, direction, width, height);
-
-            if (neighborCoords == null) {
-                continue;
-            }
-
-            Node neighbor = grid[neighborCoords.value()][neighborCoords.key()];
+            int neighbor = currentWall.cell + grid.offset(direction);
 
-            if (!neighbor.visited()) {
+            if (!visited[neighbor]) {
                 // Remove walls between current and neighbor
-                removeWall(current, neighbor, direction);
-                neighbor.visited(true);
+                removeWall(grid, currentWall.cell, neighbor, direction);
+                visited[neighbor] = true;
 
                 // Add the neighbor's walls to the wall list
-                for (Direction dir : Direction.values()) {
-                    Pair<Integer, Integer> nextCoords = getNeighborCoordinates(neighbor, dir, width, height);
-                    if (nextCoords != null) {
-                        Node nextNeighbor = grid[nextCoords.value()][nextCoords.key()];
-                        if (!nextNeighbor.visited()) {
-                            walls.add(new Wall(neighbor, dir, random.nextDouble()));
-                        }
+                for (int mask = grid.neighborMask(neighbor); mask != 0; mask &= mask - 1) {
+                    Direction dir = Direction.lowest(mask);
+                    if (!visited[neighbor + grid.offset(dir)]) {
+                        walls.add(new Wall(neighbor, dir, random.nextDouble()));
                     }
                 }
             }
@@ -65,12 +52,12 @@ public class PrimMazeGenerator extends AbstractMazeGenerator {
 
     // Helper class to represent walls with a random priority
     private static class Wall {
-        Node node;
+        int cell;
         Direction direction;
         double priority;
 
-        Wall(Node node, Direction direction, double priority) {
-            this.node = node;
+        Wall(int cell, Direction direction, double priority) {
+            this.cell = cell;
             this.direction = direction;
             this.priority = priority;
         }
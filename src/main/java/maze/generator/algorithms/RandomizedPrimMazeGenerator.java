@@ -0,0 +1,77 @@
+package maze.generator.algorithms;
+
+import java.util.SplittableRandom;
+import maze.Node.Direction;
+import maze.generator.AbstractMazeGenerator;
+import maze.grid.MazeGrid;
+import static maze.Maze.removeWall;
+
+/**
+ * Generates a maze with randomized Prim's algorithm, keeping the frontier in a primitive array.
+ *
+ * <p>
+ * The frontier holds the walls between the tree and the cells outside it, packed as {@code cell << 2 | direction}
+ * where direction is the ordinal of the wall's {@link Direction}. Each step takes a uniformly random entry and
+ * moves the last entry into its slot, so picking costs O(1) and allocates nothing. A wall is added only once, by
+ * the first of its cells to join the tree, and is dropped when picked if its other cell has joined since.
+ * Cells in the tree are tracked in a {@code long[]} bitset.
+ * </p>
+ */
+public class RandomizedPrimMazeGenerator extends AbstractMazeGenerator {
+    private static final int DIRECTION_BITS = 2;
+    private static final int DIRECTION_MASK = (1 << DIRECTION_BITS) - 1;
+
+    public RandomizedPrimMazeGenerator(SplittableRandom random) {
+        super(random);
+    }
+
+    @Override
+    protected boolean usesVisited() {
+        return false;
+    }
+
+    @Override
+    protected void generateMaze(MazeGrid grid, int height, int width) {
+        int size = grid.size();
+        if (size > Integer.MAX_VALUE >>> DIRECTION_BITS) {
+            throw new IllegalArgumentException("Maze is too large to pack its walls into an int.");
+        }
+
+        long[] inTree = newBitset(size);
+        // Holds every wall between two cells, the most that can ever be added
+        int[] frontier = new int[(width - 1) * height + width * (height - 1)];
+
+        // Start from a random cell
+        int start = grid.index(random.nextInt(width), random.nextInt(height));
+        int count = addToTree(grid, start, inTree, frontier, 0);
+
+        while (count > 0) {
+            // Swap-remove a random wall
+            int pick = random.nextInt(count);
+            int wall = frontier[pick];
+            frontier[pick] = frontier[--count];
+
+            int cell = wall >>> DIRECTION_BITS;
+            Direction direction = Direction.of(wall & DIRECTION_MASK);
+            int neighbor = cell + grid.offset(direction);
+            if (!isSet(inTree, neighbor)) {
+                removeWall(grid, cell, neighbor, direction);
+                count = addToTree(grid, neighbor, inTree, frontier, count);
+            }
+        }
+    }
+
+    // Adds the cell to the tree and its walls to cells outside the tree to the frontier, returning its new size
+    private static int addToTree(MazeGrid grid, int cell, long[] inTree, int[] frontier, int count) {
+        set(inTree, cell);
+
+        int size = count;
+        for (int mask = grid.neighborMask(cell); mask != 0; mask &= mask - 1) {
+            int ordinal = Integer.numberOfTrailingZeros(mask);
+            if (!isSet(inTree, cell + grid.offset(Direction.of(ordinal)))) {
+                frontier[size++] = cell << DIRECTION_BITS | ordinal;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,162 @@
+package maze.generator.algorithms;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+import maze.Node.Direction;
+import maze.generator.AbstractMazeGenerator;
+import maze.grid.MazeGrid;
+
+/**
+ * Generates a maze with recursive division on a {@link ForkJoinPool}.
+ *
+ * <p>
+ * All inner walls are removed first. A chamber is then split by a wall across its longer side, leaving one random
+ * passage, and both halves are divided further until they are one cell wide. The halves share no cells, so they
+ * are divided as independent fork-join tasks, down to chambers of {@link #SEQUENTIAL_CUTOFF} cells, which are
+ * divided recursively on the current thread. Walls are written as bits of the cells on both sides of them.
+ * </p>
+ *
+ * <p>
+ * Every split draws from the chamber's random stream and hands a stream split from it to the first half, so the
+ * maze does not depend on the number of threads or on the cutoff.
+ * </p>
+ */
+public class RecursiveDivisionMazeGenerator extends AbstractMazeGenerator {
+    // Chambers of at most this many cells are divided without forking
+    private static final int SEQUENTIAL_CUTOFF = 16_384;
+
+    public RecursiveDivisionMazeGenerator(SplittableRandom random) {
+        super(random);
+    }
+
+    @Override
+    protected boolean usesVisited() {
+        return false;
+    }
+
+    @Override
+    protected void generateMaze(MazeGrid grid, int height, int width) {
+        // Keep only the walls on the border of the grid
+        IntStream.range(0, height).parallel().forEach(y -> {
+            int rowWalls = (y == 0 ? Direction.NORTH.mask() : 0) | (y == height - 1 ? Direction.SOUTH.mask() : 0);
+            int first = y * width;
+            for (int x = 0; x < width; x++) {
+                int walls = rowWalls | (x == 0 ? Direction.WEST.mask() : 0);
+                grid.setWalls(first + x, x == width - 1 ? walls | Direction.EAST.mask() : walls);
+            }
+        });
+
+        ForkJoinPool.commonPool().invoke(new DivideChamber(grid, 0, 0, width, height, random));
+    }
+
+    // Divides the chamber and its halves on the current thread
+    private static void divide(MazeGrid grid, int x, int y, int width, int height, SplittableRandom random) {
+        if (width < 2 || height < 2) {
+            return;
+        }
+
+        int cut = addWall(grid, x, y, width, height, random);
+        SplittableRandom firstRandom = random.split();
+        if (isHorizontal(cut)) {
+            int rows = cutOffset(cut);
+            divide(grid, x, y, width, rows, firstRandom);
+            divide(grid, x, y + rows, width, height - rows, random);
+        } else {
+            int columns = cutOffset(cut);
+            divide(grid, x, y, columns, height, firstRandom);
+            divide(grid, x + columns, y, width - columns, height, random);
+        }
+    }
+
+    /**
+     * Builds a wall across the chamber with a single passage.
+     *
+     * @return the cut, packed as the size of the first half along the split side shifted left by one, with the
+     *     lowest bit set if the wall is horizontal
+     */
+    private static int addWall(MazeGrid grid, int x, int y, int width, int height, SplittableRandom random) {
+        boolean horizontal = height > width || height == width && random.nextBoolean();
+
+        if (horizontal) {
+            // The wall runs along the south side of row wallY, except at column passageX
+            int wallY = y + random.nextInt(height - 1);
+            int passageX = x + random.nextInt(width);
+            int north = grid.index(x, wallY);
+            for (int cell = north; cell < north + width; cell++) {
+                if (cell - north + x != passageX) {
+                    grid.setWalls(cell, grid.walls(cell) | Direction.SOUTH.mask());
+                    int south = cell + grid.width();
+                    grid.setWalls(south, grid.walls(south) | Direction.NORTH.mask());
+                }
+            }
+            return (wallY - y + 1) << 1 | 1;
+        }
+
+        // The wall runs along the east side of column wallX, except at row passageY
+        int wallX = x + random.nextInt(width - 1);
+        int passageY = y + random.nextInt(height);
+        for (int row = y; row < y + height; row++) {
+            if (row != passageY) {
+                int west = grid.index(wallX, row);
+                grid.setWalls(west, grid.walls(west) | Direction.EAST.mask());
+                grid.setWalls(west + 1, grid.walls(west + 1) | Direction.WEST.mask());
+            }
+        }
+        return (wallX - x + 1) << 1;
+    }
+
+    private static boolean isHorizontal(int cut) {
+        return (cut & 1) == 1;
+    }
+
+    private static int cutOffset(int cut) {
+        return cut >>> 1;
+    }
+
+    /**
+     * Divides a chamber, forking its halves until they are small enough to divide sequentially.
+     */
+    private static final class DivideChamber extends RecursiveAction {
+        private final MazeGrid grid;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+        private final SplittableRandom random;
+
+        DivideChamber(MazeGrid grid, int x, int y, int width, int height, SplittableRandom random) {
+            this.grid = grid;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if ((long) width * height <= SEQUENTIAL_CUTOFF) {
+                divide(grid, x, y, width, height, random);
+                return;
+            }
+
+            int cut = addWall(grid, x, y, width, height, random);
+            SplittableRandom firstRandom = random.split();
+            if (isHorizontal(cut)) {
+                int rows = cutOffset(cut);
+                invokeAll(
+                    new DivideChamber(grid, x, y, width, rows, firstRandom),
+                    new DivideChamber(grid, x, y + rows, width, height - rows, random)
+                );
+            } else {
+                int columns = cutOffset(cut);
+                invokeAll(
+                    new DivideChamber(grid, x, y, columns, height, firstRandom),
+                    new DivideChamber(grid, x + columns, y, width - columns, height, random)
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package maze.grid;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * A grid whose heights are computed on demand from a function of the coordinates, while its walls are stored in
+ * another grid.
+ *
+ * <p>
+ * Heights are computed and kept a square tile at a time, the first time a cell of the tile is read or written,
+ * so setting up the surface costs nothing and only the tiles around the cells actually visited take memory.
+ * Heights written with {@link #setHeight} replace the computed ones. The heights of the backing grid are never
+ * touched, so it can be a grid without heights such as {@link PackedWallGrid}, and with mapped storage their pages
+ * never become resident.
+ * </p>
+ *
+ * <p>
+ * Tiles can be loaded from several threads: a tile computed twice is discarded in favor of the first one published.
+ * </p>
+ */
+public class LazyHeightGrid implements MazeGrid {
+    // Tiles are 64x64 cells, 16 KiB of heights each
+    private static final int TILE_SHIFT = 6;
+    private static final int TILE_SIZE = 1 << TILE_SHIFT;
+    private static final int TILE_MASK = TILE_SIZE - 1;
+
+    private final MazeGrid walls;
+    private final int width;
+    private final int height;
+    private final int tileColumns;
+    private final AtomicReferenceArray<int[]> tiles;
+    private IntBinaryOperator heights;
+
+    /**
+     * Creates a grid that computes its heights with the given function.
+     *
+     * @param walls   the grid that stores the walls; its heights are never used
+     * @param heights computes the height of the cell at (x, y); it must return the same height for the same cell
+     */
+    public LazyHeightGrid(MazeGrid walls, IntBinaryOperator heights) {
+        this.walls = walls;
+        this.heights = heights;
+        this.width = walls.width();
+        this.height = walls.height();
+        this.tileColumns = (width + TILE_MASK) >> TILE_SHIFT;
+        int tileRows = (height + TILE_MASK) >> TILE_SHIFT;
+        this.tiles = new AtomicReferenceArray<>(tileColumns * tileRows);
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public int heightAt(int cell) {
+        int x = cell % width;
+        int y = cell / width;
+        return tile(x, y)[offsetInTile(x, y)];
+    }
+
+    @Override
+    public void setHeight(int cell, int value) {
+        int x = cell % width;
+        int y = cell / width;
+        tile(x, y)[offsetInTile(x, y)] = value;
+    }
+
+    @Override
+    public int walls(int cell) {
+        return walls.walls(cell);
+    }
+
+    @Override
+    public void setWalls(int cell, int walls) {
+        this.walls.setWalls(cell, walls);
+    }
+
+    /**
+     * Restores all walls and resets all heights to zero, dropping the height function.
+     */
+    @Override
+    public void clear() {
+        walls.clear();
+        heights = (x, y) -> 0;
+        for (int i = 0; i < tiles.length(); i++) {
+            tiles.set(i, null);
+        }
+    }
+
+    @Override
+    public void close() {
+        walls.close();
+    }
+
+    /**
+     * Counts the tiles whose heights have been computed.
+     *
+     * @return the number of loaded tiles
+     */
+    public int loadedTiles() {
+        int loaded = 0;
+        for (int i = 0; i < tiles.length(); i++) {
+            if (tiles.get(i) != null) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    private int[] tile(int x, int y) {
+        int index = (y >> TILE_SHIFT) * tileColumns + (x >> TILE_SHIFT);
+        int[] tile = tiles.get(index);
+        return tile != null ? tile : loadTile(index, x & ~TILE_MASK, y & ~TILE_MASK);
+    }
+
+    private int[] loadTile(int index, int originX, int originY) {
+        int[] tile = new int[TILE_SIZE * TILE_SIZE];
+        int toX = Math.min(originX + TILE_SIZE, width);
+        int toY = Math.min(originY + TILE_SIZE, height);
+        for (int y = originY; y < toY; y++) {
+            for (int x = originX; x < toX; x++) {
+                tile[offsetInTile(x, y)] = heights.applyAsInt(x, y);
+            }
+        }
+
+        int[] published = tiles.compareAndExchange(index, null, tile);
+        return published != null ? published : tile;
+    }
+
+    private static int offsetInTile(int x, int y) {
+        return ((y & TILE_MASK) << TILE_SHIFT) | (x & TILE_MASK);
+    }
+}
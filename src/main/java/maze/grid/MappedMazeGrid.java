@@ -0,0 +1,159 @@
+package maze.grid;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Off-heap grid whose walls and heights live in a memory-mapped file.
+ *
+ * <p>
+ * The file holds one byte of wall bits per cell followed by one int of height per cell. Wall bits are stored
+ * inverted (a set bit marks a removed wall), so a freshly created, sparse file already describes a grid with all
+ * walls present and zero heights: only the pages that are actually touched become resident. Only the grid itself
+ * is off-heap; generators and solvers keep their per-cell working arrays on the heap.
+ * </p>
+ *
+ * <p>
+ * The mapping is shared between threads and is released on {@link #close()}.
+ * </p>
+ */
+public class MappedMazeGrid implements MazeGrid {
+    private static final ValueLayout.OfByte WALL_LAYOUT = ValueLayout.JAVA_BYTE;
+    private static final ValueLayout.OfInt HEIGHT_LAYOUT = ValueLayout.JAVA_INT;
+
+    private final int width;
+    private final int height;
+    private final Arena arena;
+    private final MemorySegment walls;
+    private final MemorySegment heights;
+    private final Path temporaryFile;
+
+    /**
+     * Maps a new grid of the given dimensions into the specified file, replacing its contents.
+     *
+     * @param file   the file that backs the grid
+     * @param width  the width of the grid
+     * @param height the height of the grid
+     */
+    public MappedMazeGrid(Path file, int width, int height) {
+        this(file, width, height, false);
+    }
+
+    private MappedMazeGrid(Path file, int width, int height, boolean temporary) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive.");
+        }
+        if ((long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid is too large: " + width + "x" + height);
+        }
+
+        this.width = width;
+        this.height = height;
+        this.temporaryFile = temporary ? file : null;
+
+        long cells = (long) width * height;
+        // Keep the heights region aligned to its element size
+        long heightsOffset = alignUp(cells * WALL_LAYOUT.byteSize(), HEIGHT_LAYOUT.byteAlignment());
+        long fileSize = heightsOffset + cells * HEIGHT_LAYOUT.byteSize();
+
+        this.arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            // Mapping past the end of the file extends it without writing any data
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize, arena);
+            this.walls = segment.asSlice(0, cells * WALL_LAYOUT.byteSize());
+            this.heights = segment.asSlice(heightsOffset, cells * HEIGHT_LAYOUT.byteSize());
+        } catch (IOException e) {
+            arena.close();
+            throw new UncheckedIOException("Failed to map maze grid to " + file, e);
+        }
+    }
+
+    /**
+     * Maps a new grid into a temporary file that is deleted when the grid is closed.
+     *
+     * @param width  the width of the grid
+     * @param height the height of the grid
+     * @return the mapped grid
+     */
+    public static MappedMazeGrid temporary(int width, int height) {
+        try {
+            Path file = Files.createTempFile("maze", ".grid");
+            return new MappedMazeGrid(file, width, height, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create a temporary maze grid file", e);
+        }
+    }
+
+    private static long alignUp(long value, long alignment) {
+        return (value + alignment - 1) / alignment * alignment;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public int heightAt(int cell) {
+        return heights.getAtIndex(HEIGHT_LAYOUT, cell);
+    }
+
+    @Override
+    public void setHeight(int cell, int value) {
+        heights.setAtIndex(HEIGHT_LAYOUT, cell, value);
+    }
+
+    @Override
+    public void setHeights(int cell, int[] heights) {
+        MemorySegment.copy(heights, 0, this.heights, HEIGHT_LAYOUT, cell * HEIGHT_LAYOUT.byteSize(), heights.length);
+    }
+
+    @Override
+    public int walls(int cell) {
+        return ~walls.get(WALL_LAYOUT, cell) & ALL_WALLS;
+    }
+
+    @Override
+    public void setWalls(int cell, int walls) {
+        this.walls.set(WALL_LAYOUT, cell, (byte) (~walls & ALL_WALLS));
+    }
+
+    @Override
+    public void clear() {
+        walls.fill((byte) 0);
+        heights.fill((byte) 0);
+    }
+
+    /**
+     * Unmaps the grid and deletes its file if it is temporary.
+     */
+    @Override
+    public void close() {
+        arena.close();
+        if (temporaryFile != null) {
+            try {
+                Files.deleteIfExists(temporaryFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to delete " + temporaryFile, e);
+            }
+        }
+    }
+}
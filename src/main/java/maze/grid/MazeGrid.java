@@ -0,0 +1,204 @@
+package maze.grid;
+
+import maze.Node;
+
+/**
+ * A rectangular maze grid that stores walls and heights per cell.
+ *
+ * <p>
+ * Cells are addressed by their index {@code y * width + x}. Walls of a cell are stored as a bitmask
+ * of {@link Node.Direction#mask()} values.
+ * </p>
+ *
+ * <p>
+ * Grids backed by external resources release them on {@link #close()}.
+ * </p>
+ */
+public interface MazeGrid extends AutoCloseable {
+    /**
+     * Bitmask with all four walls present.
+     */
+    int ALL_WALLS = 0b1111;
+
+    /**
+     * Index returned for neighbors that lie outside of the grid.
+     */
+    int NO_NEIGHBOR = -1;
+
+    int width();
+
+    int height();
+
+    /**
+     * Retrieves the height of the cell.
+     *
+     * @param cell the cell index
+     * @return the height of the cell
+     */
+    int heightAt(int cell);
+
+    /**
+     * Sets the height of the cell.
+     *
+     * @param cell  the cell index
+     * @param value the new height
+     */
+    void setHeight(int cell, int value);
+
+    /**
+     * Sets the heights of consecutive cells, for example of a row.
+     * Grids that store heights in a primitive array copy them in bulk.
+     *
+     * @param cell    the index of the first cell
+     * @param heights the new heights, one per cell from the first one on
+     */
+    default void setHeights(int cell, int[] heights) {
+        for (int i = 0; i < heights.length; i++) {
+            setHeight(cell + i, heights[i]);
+        }
+    }
+
+    /**
+     * Retrieves the wall bitmask of the cell.
+     *
+     * @param cell the cell index
+     * @return the bitmask of present walls
+     */
+    int walls(int cell);
+
+    /**
+     * Replaces the wall bitmask of the cell.
+     *
+     * @param cell  the cell index
+     * @param walls the bitmask of present walls
+     */
+    void setWalls(int cell, int walls);
+
+    /**
+     * Restores all walls and resets all heights to zero.
+     */
+    void clear();
+
+    /**
+     * Releases the resources held by the grid. Heap-backed grids hold none.
+     */
+    @Override
+    default void close() {
+    }
+
+    /**
+     * Returns the total number of cells in the grid.
+     *
+     * @return width * height
+     */
+    default int size() {
+        return width() * height();
+    }
+
+    /**
+     * Calculates the index of the cell at the given coordinates.
+     *
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @return the cell index
+     */
+    default int index(int x, int y) {
+        return y * width() + x;
+    }
+
+    /**
+     * Checks if a wall exists in the given direction.
+     *
+     * @param cell      the cell index
+     * @param direction the direction to check
+     * @return true if the wall exists, false otherwise
+     */
+    default boolean hasWall(int cell, Node.Direction direction) {
+        return (walls(cell) & direction.mask()) != 0;
+    }
+
+    /**
+     * Sets the presence of a wall in the given direction of a single cell.
+     *
+     * @param cell      the cell index
+     * @param direction the direction to set
+     * @param exists    whether the wall exists
+     */
+    default void setWall(int cell, Node.Direction direction, boolean exists) {
+        int walls = walls(cell);
+        setWalls(cell, exists ? walls | direction.mask() : walls & ~direction.mask());
+    }
+
+    /**
+     * Calculates the index offset from a cell to its neighbor in the given direction.
+     * The result is not bounds-checked; combine it with {@link #neighborMask(int)}.
+     *
+     * @param direction the direction to move
+     * @return the difference between the neighbor's index and the cell's index
+     */
+    default int offset(Node.Direction direction) {
+        return direction.dy() * width() + direction.dx();
+    }
+
+    /**
+     * Retrieves a bitmask of directions in which the cell has a neighbor inside the grid.
+     *
+     * @param cell the cell index
+     * @return the bitmask of directions leading to existing cells
+     */
+    default int neighborMask(int cell) {
+        int width = width();
+        int x = cell % width;
+        int y = cell / width;
+
+        int mask = ALL_WALLS;
+        if (y == 0) {
+            mask &= ~Node.Direction.NORTH.mask();
+        }
+        if (y == height() - 1) {
+            mask &= ~Node.Direction.SOUTH.mask();
+        }
+        if (x == width - 1) {
+            mask &= ~Node.Direction.EAST.mask();
+        }
+        if (x == 0) {
+            mask &= ~Node.Direction.WEST.mask();
+        }
+        return mask;
+    }
+
+    /**
+     * Retrieves a bitmask of directions in which movement to a neighboring cell is possible.
+     *
+     * @param cell the cell index
+     * @return the bitmask of directions with an existing neighbor and no wall
+     */
+    default int passages(int cell) {
+        return neighborMask(cell) & ~walls(cell);
+    }
+
+    /**
+     * Calculates the index of the neighbor in the specified direction.
+     *
+     * @param cell      the cell index
+     * @param direction the direction to move
+     * @return the neighbor's index or {@link #NO_NEIGHBOR} if it is out of bounds
+     */
+    default int neighbor(int cell, Node.Direction direction) {
+        if ((neighborMask(cell) & direction.mask()) == 0) {
+            return NO_NEIGHBOR;
+        }
+        return cell + offset(direction);
+    }
+
+    /**
+     * Creates a snapshot of the cell at the given index.
+     *
+     * @param cell the cell index
+     * @return a Node holding the cell's coordinates and height
+     */
+    default Node node(int cell) {
+        int width = width();
+        return new Node(cell % width, cell / width, heightAt(cell));
+    }
+}
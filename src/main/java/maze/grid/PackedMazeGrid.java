@@ -0,0 +1,76 @@
+package maze.grid;
+
+import java.util.Arrays;
+
+/**
+ * Heap-backed grid storing walls as one byte per cell and heights in a primitive array.
+ */
+public class PackedMazeGrid implements MazeGrid {
+    private final int width;
+    private final int height;
+    private final byte[] walls;
+    private final int[] heights;
+
+    /**
+     * Constructs a grid of the given dimensions with all walls present and zero heights.
+     *
+     * @param width  the width of the grid
+     * @param height the height of the grid
+     */
+    public PackedMazeGrid(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive.");
+        }
+        if ((long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid is too large: " + width + "x" + height);
+        }
+
+        this.width = width;
+        this.height = height;
+        this.walls = new byte[width * height];
+        this.heights = new int[width * height];
+
+        clear();
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public int heightAt(int cell) {
+        return heights[cell];
+    }
+
+    @Override
+    public void setHeight(int cell, int value) {
+        heights[cell] = value;
+    }
+
+    @Override
+    public void setHeights(int cell, int[] heights) {
+        System.arraycopy(heights, 0, this.heights, cell, heights.length);
+    }
+
+    @Override
+    public int walls(int cell) {
+        return walls[cell];
+    }
+
+    @Override
+    public void setWalls(int cell, int walls) {
+        this.walls[cell] = (byte) walls;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(walls, (byte) ALL_WALLS);
+        Arrays.fill(heights, 0);
+    }
+}
@@ -0,0 +1,75 @@
+package maze.grid;
+
+import java.util.Arrays;
+
+/**
+ * Heap-backed grid storing only walls, one byte per cell, for grids whose heights are kept by a wrapping grid such
+ * as {@link LazyHeightGrid}.
+ *
+ * <p>
+ * It has no heights: reading or writing a height throws {@link UnsupportedOperationException}.
+ * </p>
+ */
+public class PackedWallGrid implements MazeGrid {
+    private static final String NO_HEIGHTS = "A wall grid has no heights.";
+
+    private final int width;
+    private final int height;
+    private final byte[] walls;
+
+    /**
+     * Constructs a grid of the given dimensions with all walls present.
+     *
+     * @param width  the width of the grid
+     * @param height the height of the grid
+     */
+    public PackedWallGrid(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive.");
+        }
+        if ((long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid is too large: " + width + "x" + height);
+        }
+
+        this.width = width;
+        this.height = height;
+        this.walls = new byte[width * height];
+
+        clear();
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public int heightAt(int cell) {
+        throw new UnsupportedOperationException(NO_HEIGHTS);
+    }
+
+    @Override
+    public void setHeight(int cell, int value) {
+        throw new UnsupportedOperationException(NO_HEIGHTS);
+    }
+
+    @Override
+    public int walls(int cell) {
+        return walls[cell];
+    }
+
+    @Override
+    public void setWalls(int cell, int walls) {
+        this.walls[cell] = (byte) walls;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(walls, (byte) ALL_WALLS);
+    }
+}
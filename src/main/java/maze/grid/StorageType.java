@@ -0,0 +1,47 @@
+package maze.grid;
+
+public enum StorageType {
+    HEAP {
+        @Override
+        public MazeGrid createGrid(int width, int height) {
+            return new PackedMazeGrid(width, height);
+        }
+
+        @Override
+        public MazeGrid createWallGrid(int width, int height) {
+            return new PackedWallGrid(width, height);
+        }
+    },
+    MAPPED {
+        @Override
+        public MazeGrid createGrid(int width, int height) {
+            return MappedMazeGrid.temporary(width, height);
+        }
+
+        @Override
+        public MazeGrid createWallGrid(int width, int height) {
+            // The heights of a sparse mapping take no memory until they are touched, which a wall grid never does
+            return MappedMazeGrid.temporary(width, height);
+        }
+    };
+
+    public abstract MazeGrid createGrid(int width, int height);
+
+    /**
+     * Creates a grid that only has to store walls, for a grid that keeps the heights itself, such as
+     * {@link LazyHeightGrid}. Its heights must not be used.
+     *
+     * @param width  the width of the grid
+     * @param height the height of the grid
+     * @return the grid
+     */
+    public abstract MazeGrid createWallGrid(int width, int height);
+
+    public static StorageType fromString(String typeStr) {
+        try {
+            return StorageType.valueOf(typeStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid storage type: " + typeStr, e);
+        }
+    }
+}
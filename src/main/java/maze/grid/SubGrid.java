@@ -0,0 +1,83 @@
+package maze.grid;
+
+/**
+ * A rectangular window onto another grid, addressed with its own cell indices.
+ *
+ * <p>
+ * Reads and writes go straight to the parent grid, and neighbors end at the window's border. Windows that do not
+ * overlap can be written from different threads, as long as the parent stores cells independently.
+ * </p>
+ */
+public class SubGrid implements MazeGrid {
+    private final MazeGrid parent;
+    private final int originX;
+    private final int originY;
+    private final int width;
+    private final int height;
+
+    /**
+     * Creates a window onto the parent grid.
+     *
+     * @param parent  the grid to view
+     * @param originX the column of the window's top-left cell in the parent
+     * @param originY the row of the window's top-left cell in the parent
+     * @param width   the width of the window
+     * @param height  the height of the window
+     */
+    public SubGrid(MazeGrid parent, int originX, int originY, int width, int height) {
+        if (width <= 0 || height <= 0 || originX < 0 || originY < 0
+            || originX + width > parent.width() || originY + height > parent.height()) {
+            throw new IllegalArgumentException("Window is outside of the parent grid.");
+        }
+        this.parent = parent;
+        this.originX = originX;
+        this.originY = originY;
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public int heightAt(int cell) {
+        return parent.heightAt(toParent(cell));
+    }
+
+    @Override
+    public void setHeight(int cell, int value) {
+        parent.setHeight(toParent(cell), value);
+    }
+
+    @Override
+    public int walls(int cell) {
+        return parent.walls(toParent(cell));
+    }
+
+    @Override
+    public void setWalls(int cell, int walls) {
+        parent.setWalls(toParent(cell), walls);
+    }
+
+    /**
+     * Restores all walls and zero heights inside the window.
+     */
+    @Override
+    public void clear() {
+        for (int cell = 0; cell < size(); cell++) {
+            setWalls(cell, ALL_WALLS);
+            setHeight(cell, 0);
+        }
+    }
+
+    private int toParent(int cell) {
+        return parent.index(originX + cell % width, originY + cell / width);
+    }
+}
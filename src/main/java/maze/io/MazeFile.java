@@ -0,0 +1,141 @@
+package maze.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.experimental.UtilityClass;
+import maze.grid.MazeGrid;
+import util.PathResolver;
+
+/**
+ * Reads and writes mazes in a compact, versioned binary format.
+ *
+ * <p>
+ * All values are little-endian. The file starts with a 32-byte header:
+ * </p>
+ * <pre>
+ * offset  size  field
+ *      0     4  magic "MAZE"
+ *      4     2  format version
+ *      6     1  bytes per height (1 or 2)
+ *      7     1  reserved
+ *      8     4  width
+ *     12     4  height
+ *     16     8  seed the maze was generated with (0 if unknown)
+ *     24     4  minimum height
+ *     28     4  reserved
+ * </pre>
+ *
+ * <p>
+ * The header is followed by the wall bits, four per cell and two cells per byte (the even cell in the low nibble),
+ * and then by the heights, each stored as an unsigned offset from the minimum height.
+ * </p>
+ */
+@UtilityClass
+public class MazeFile {
+    static final ValueLayout.OfByte BYTE = ValueLayout.JAVA_BYTE;
+    static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private static final int BYTE_SPAN = 0xFF;
+    private static final int SHORT_SPAN = 0xFFFF;
+
+    /**
+     * Writes the grid to the specified file.
+     *
+     * @param grid the maze grid to write
+     * @param seed the seed the maze was generated with, or 0 if unknown
+     * @param path the path of the file, relative to the working directory
+     * @throws IllegalArgumentException if the heights span more than 16 bits
+     */
+    public static void write(MazeGrid grid, long seed, String path) {
+        int size = grid.size();
+
+        // Determine the height span to choose the narrowest encoding
+        int minHeight = Integer.MAX_VALUE;
+        int maxHeight = Integer.MIN_VALUE;
+        for (int cell = 0; cell < size; cell++) {
+            minHeight = Math.min(minHeight, grid.heightAt(cell));
+            maxHeight = Math.max(maxHeight, grid.heightAt(cell));
+        }
+        long span = (long) maxHeight - minHeight;
+        if (span > SHORT_SPAN) {
+            throw new IllegalArgumentException("Heights span " + span + " values and cannot be stored in 16 bits.");
+        }
+        int heightBytes = span > BYTE_SPAN ? 2 : 1;
+        MazeFileHeader header = new MazeFileHeader(grid.width(), grid.height(), seed, minHeight, heightBytes);
+
+        Path target = PathResolver.resolve(path);
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(
+                 target,
+                 StandardOpenOption.CREATE,
+                 StandardOpenOption.READ,
+                 StandardOpenOption.WRITE,
+                 StandardOpenOption.TRUNCATE_EXISTING
+             )) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_WRITE, 0, header.fileSize(), arena);
+            header.write(file);
+
+            MazeFileGrid view = new MazeFileGrid(header, file, null);
+            for (int cell = 0; cell < size; cell++) {
+                view.setWalls(cell, grid.walls(cell));
+                view.setHeight(cell, grid.heightAt(cell));
+            }
+            file.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write maze to " + target, e);
+        }
+    }
+
+    /**
+     * Creates a file that receives a flat maze row by row, for example from a streaming generator.
+     *
+     * @param width  the width of the maze
+     * @param height the height of the maze
+     * @param seed   the seed the maze was generated with, or 0 if unknown
+     * @param path   the path of the file, relative to the working directory
+     * @return the writer, which must be closed after the last row
+     * @throws IllegalArgumentException if the maze has more cells than the format can hold
+     */
+    public static MazeFileWriter writer(int width, int height, long seed, String path) {
+        if (width <= 0 || height <= 0 || (long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze dimensions are out of the range of the file format.");
+        }
+        return new MazeFileWriter(new MazeFileHeader(width, height, seed, 0, 1), PathResolver.resolve(path));
+    }
+
+    /**
+     * Maps a maze file and returns a grid that serves cells directly from the mapping.
+     *
+     * <p>
+     * The mapping is read-only, so the returned grid can be solved and rendered but not modified.
+     * The grid must be closed to release the mapping.
+     * </p>
+     *
+     * @param path the path of the file, relative to the working directory
+     * @return the mapped grid
+     * @throws IllegalArgumentException if the file is not a valid maze file
+     */
+    public static MazeFileGrid load(String path) {
+        Path source = PathResolver.resolve(path);
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return new MazeFileGrid(MazeFileHeader.read(file), file, arena);
+        } catch (IOException e) {
+            arena.close();
+            throw new UncheckedIOException("Failed to load maze from " + source, e);
+        } catch (IllegalArgumentException e) {
+            arena.close();
+            throw new IllegalArgumentException(e.getMessage() + " " + source, e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package maze.io;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import lombok.Getter;
+import maze.grid.MazeGrid;
+import static maze.io.MazeFile.BYTE;
+import static maze.io.MazeFile.SHORT;
+
+/**
+ * Grid view over the wall and height sections of a {@link MazeFile}.
+ *
+ * <p>
+ * Cells are decoded from the mapped file on every access; no per-cell objects are created.
+ * Grids loaded with {@link MazeFile#load(String)} are read-only.
+ * </p>
+ */
+public class MazeFileGrid implements MazeGrid {
+    private static final int NIBBLE_BITS = 4;
+    private static final int LOW_NIBBLE = 0x0F;
+    private static final int HIGH_NIBBLE = 0xF0;
+    private static final int BYTE_SPAN = 0xFF;
+    private static final int SHORT_SPAN = 0xFFFF;
+
+    private final int width;
+    private final int height;
+    @Getter private final long seed;
+    private final int minHeight;
+    private final int heightBytes;
+    private final MemorySegment walls;
+    private final MemorySegment heights;
+    private final Arena arena;
+
+    /**
+     * Creates a view over a mapped maze file.
+     *
+     * @param header the header of the file
+     * @param file   the mapped file
+     * @param arena  the arena that owns the mapping, or null if the caller manages it
+     */
+    MazeFileGrid(MazeFileHeader header, MemorySegment file, Arena arena) {
+        this.width = header.width();
+        this.height = header.height();
+        this.seed = header.seed();
+        this.minHeight = header.minHeight();
+        this.heightBytes = header.heightBytes();
+        this.walls = file.asSlice(MazeFileHeader.SIZE, header.wallBytes());
+        this.heights = file.asSlice(header.heightsOffset(), (long) header.size() * heightBytes);
+        this.arena = arena;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public int heightAt(int cell) {
+        if (heightBytes == 1) {
+            return Byte.toUnsignedInt(heights.get(BYTE, cell)) + minHeight;
+        }
+        return Short.toUnsignedInt(heights.getAtIndex(SHORT, cell)) + minHeight;
+    }
+
+    @Override
+    public void setHeight(int cell, int value) {
+        long quantized = (long) value - minHeight;
+        if (quantized < 0 || quantized > (heightBytes == 1 ? BYTE_SPAN : SHORT_SPAN)) {
+            throw new IllegalArgumentException("Height " + value + " is out of the range stored in the file.");
+        }
+        if (heightBytes == 1) {
+            heights.set(BYTE, cell, (byte) quantized);
+        } else {
+            heights.setAtIndex(SHORT, cell, (short) quantized);
+        }
+    }
+
+    /**
+     * Finds the largest absolute height the file can store, from its minimum height and the width of its heights.
+     *
+     * @return the height range that bounds every height of the grid
+     */
+    public int heightRange() {
+        long maxHeight = (long) minHeight + (heightBytes == 1 ? BYTE_SPAN : SHORT_SPAN);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(Math.abs((long) minHeight), Math.abs(maxHeight)));
+    }
+
+    @Override
+    public int walls(int cell) {
+        int packed = walls.get(BYTE, cell >>> 1);
+        return (packed >>> ((cell & 1) * NIBBLE_BITS)) & LOW_NIBBLE;
+    }
+
+    @Override
+    public void setWalls(int cell, int walls) {
+        long offset = cell >>> 1;
+        int shift = (cell & 1) * NIBBLE_BITS;
+        int packed = this.walls.get(BYTE, offset) & (HIGH_NIBBLE >>> shift);
+        this.walls.set(BYTE, offset, (byte) (packed | (walls & ALL_WALLS) << shift));
+    }
+
+    @Override
+    public void clear() {
+        walls.fill((byte) BYTE_SPAN);
+        for (int cell = 0; cell < size(); cell++) {
+            setHeight(cell, 0);
+        }
+    }
+
+    /**
+     * Releases the file mapping.
+     */
+    @Override
+    public void close() {
+        if (arena != null) {
+            arena.close();
+        }
+    }
+}
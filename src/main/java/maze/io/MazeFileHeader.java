@@ -0,0 +1,93 @@
+package maze.io;
+
+import java.lang.foreign.MemorySegment;
+import static maze.io.MazeFile.BYTE;
+import static maze.io.MazeFile.INT;
+import static maze.io.MazeFile.LONG;
+import static maze.io.MazeFile.SHORT;
+
+/**
+ * The fixed-size header of a {@link MazeFile}.
+ *
+ * @param width       the width of the maze
+ * @param height      the height of the maze
+ * @param seed        the seed the maze was generated with, or 0 if unknown
+ * @param minHeight   the minimum height, which stored heights are offsets from
+ * @param heightBytes the number of bytes per stored height (1 or 2)
+ */
+record MazeFileHeader(int width, int height, long seed, int minHeight, int heightBytes) {
+    static final int MAGIC = 0x455A414D; // "MAZE" read as a little-endian int
+    static final short VERSION = 1;
+    static final long SIZE = 32;
+
+    private static final long VERSION_OFFSET = 4;
+    private static final long HEIGHT_BYTES_OFFSET = 6;
+    private static final long WIDTH_OFFSET = 8;
+    private static final long HEIGHT_OFFSET = 12;
+    private static final long SEED_OFFSET = 16;
+    private static final long MIN_HEIGHT_OFFSET = 24;
+
+    /**
+     * Reads and validates the header at the start of the file.
+     *
+     * @param file the mapped file
+     * @return the header
+     * @throws IllegalArgumentException if the file does not start with a valid header
+     */
+    static MazeFileHeader read(MemorySegment file) {
+        if (file.byteSize() < SIZE || file.get(INT, 0) != MAGIC) {
+            throw new IllegalArgumentException("Not a maze file.");
+        }
+        short version = file.get(SHORT, VERSION_OFFSET);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported maze file version: " + version);
+        }
+
+        MazeFileHeader header = new MazeFileHeader(
+            file.get(INT, WIDTH_OFFSET),
+            file.get(INT, HEIGHT_OFFSET),
+            file.get(LONG, SEED_OFFSET),
+            file.get(INT, MIN_HEIGHT_OFFSET),
+            file.get(BYTE, HEIGHT_BYTES_OFFSET)
+        );
+        if (header.heightBytes != 1 && header.heightBytes != 2
+            || header.width <= 0 || header.height <= 0 || (long) header.width * header.height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Corrupted maze file header.");
+        }
+        if (file.byteSize() < header.fileSize()) {
+            throw new IllegalArgumentException("Truncated maze file.");
+        }
+        return header;
+    }
+
+    /**
+     * Writes the header at the start of the file.
+     *
+     * @param file the mapped file
+     */
+    void write(MemorySegment file) {
+        file.set(INT, 0, MAGIC);
+        file.set(SHORT, VERSION_OFFSET, VERSION);
+        file.set(BYTE, HEIGHT_BYTES_OFFSET, (byte) heightBytes);
+        file.set(INT, WIDTH_OFFSET, width);
+        file.set(INT, HEIGHT_OFFSET, height);
+        file.set(LONG, SEED_OFFSET, seed);
+        file.set(INT, MIN_HEIGHT_OFFSET, minHeight);
+    }
+
+    int size() {
+        return width * height;
+    }
+
+    long wallBytes() {
+        return (size() + 1L) / 2;
+    }
+
+    long heightsOffset() {
+        return SIZE + wallBytes();
+    }
+
+    long fileSize() {
+        return heightsOffset() + (long) size() * heightBytes;
+    }
+}
@@ -0,0 +1,110 @@
+package maze.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import maze.generator.RowSink;
+import maze.grid.MazeGrid;
+
+/**
+ * Writes a {@link MazeFile} row by row, so that streamed mazes never have to be held in memory.
+ *
+ * <p>
+ * Only one row of packed walls is buffered. Streamed mazes are flat, so the heights are left as a zero-filled
+ * (sparse where supported) region at the end of the file. The writer must be closed after the last row.
+ * </p>
+ */
+public class MazeFileWriter implements RowSink, AutoCloseable {
+    private static final int NIBBLE_BITS = 4;
+    private static final int NO_NIBBLE = -1;
+    private static final String WRITE_FAILED = "Failed to write maze to ";
+
+    private final MazeFileHeader header;
+    private final Path target;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private int pendingNibble = NO_NIBBLE; // Wall bits of an even cell still waiting for its odd neighbor
+    private long nextRow;
+
+    /**
+     * Creates the file and writes its header.
+     *
+     * @param header the header of the file; the heights are flat
+     * @param target the path of the file
+     */
+    MazeFileWriter(MazeFileHeader header, Path target) {
+        this.header = header;
+        this.target = target;
+        this.buffer = ByteBuffer.allocateDirect(header.width() / 2 + 1);
+        try {
+            this.channel = FileChannel.open(
+                target,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            );
+            MemorySegment headerBytes = MemorySegment.ofArray(new byte[(int) MazeFileHeader.SIZE]);
+            header.write(headerBytes);
+            writeFully(headerBytes.asByteBuffer());
+        } catch (IOException e) {
+            throw new UncheckedIOException(WRITE_FAILED + target, e);
+        }
+    }
+
+    @Override
+    public void accept(long row, byte[] walls) {
+        if (row != nextRow || row >= header.height() || walls.length != header.width()) {
+            throw new IllegalStateException("Expected row " + nextRow + " with " + header.width() + " cells.");
+        }
+
+        // Two cells per byte, the even cell in the low nibble; a row may end in the middle of a byte
+        for (byte cellWalls : walls) {
+            int nibble = cellWalls & MazeGrid.ALL_WALLS;
+            if (pendingNibble == NO_NIBBLE) {
+                pendingNibble = nibble;
+            } else {
+                buffer.put((byte) (pendingNibble | nibble << NIBBLE_BITS));
+                pendingNibble = NO_NIBBLE;
+            }
+        }
+        try {
+            buffer.flip();
+            writeFully(buffer);
+            buffer.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException(WRITE_FAILED + target, e);
+        }
+        nextRow++;
+    }
+
+    /**
+     * Writes the last half-filled byte, sizes the file to include the heights and closes it.
+     *
+     * @throws IllegalStateException if not all rows were written
+     */
+    @Override
+    public void close() {
+        try (channel) {
+            if (pendingNibble != NO_NIBBLE) {
+                writeFully(ByteBuffer.wrap(new byte[] {(byte) pendingNibble}));
+            }
+            // Writing the last byte extends the file; the heights before it read as zero
+            channel.write(ByteBuffer.allocate(1), header.fileSize() - 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(WRITE_FAILED + target, e);
+        }
+        if (nextRow != header.height()) {
+            throw new IllegalStateException("Maze file is incomplete: " + nextRow + "/" + header.height() + " rows.");
+        }
+    }
+
+    private void writeFully(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+}
@@ -1,27 +1,27 @@
 package maze.solver;
 
+import config.Config;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import maze.Maze;
 import maze.Node;
+import maze.grid.MazeGrid;
 import maze.solver.functions.CostFunc;
+import maze.solver.structs.Adjacency;
 import maze.solver.structs.Graph;
+import maze.solver.structs.ImplicitGraph;
 import maze.solver.structs.MazeSolution;
-import util.Pair;
 
 /**
  * An abstract base class for MazeSolver implementations.
  * It encapsulates common functionalities shared across different maze-solving algorithms.
  */
 public abstract class AbstractMazeSolver implements MazeSolver {
+    protected static final boolean IMPLICIT_GRAPH = Config.getInstance().solver().implicit();
+
     protected final CostFunc costFunc;
-    protected Map<Node, Integer> nodeToIndex;
-    protected Map<Integer, Node> indexToNode;
-    protected Node start;
-    protected Node goal;
+    protected final boolean implicit;
+    protected MazeGrid grid;
     protected int startIdx;
     protected int goalIdx;
     protected int height;
@@ -35,45 +35,53 @@ public abstract class AbstractMazeSolver implements MazeSolver {
      * @param costFunc the cost function to calculate movement costs between nodes
      */
     public AbstractMazeSolver(CostFunc costFunc) {
+        this(costFunc, false);
+    }
+
+    /**
+     * Constructs an AbstractMazeSolver with the specified CostFunc and graph mode.
+     *
+     * @param costFunc the cost function to calculate movement costs between nodes
+     * @param implicit whether to compute edges from the grid on the fly instead of building a graph
+     */
+    public AbstractMazeSolver(CostFunc costFunc, boolean implicit) {
         this.costFunc = costFunc;
+        this.implicit = implicit;
     }
 
     /**
      * Validates the grid and initializes common data structures.
      *
-     * @param grid the maze grid represented as a 2D array of Nodes
+     * @param grid the maze grid
      * @throws IllegalArgumentException if the grid is null or empty
      */
-    protected void initialize(Node[][] grid) {
-        if (grid == null || grid.length == 0 || grid[0].length == 0) {
-            throw new IllegalArgumentException("Grid must be a non-empty 2D array of Nodes.");
+    protected void initialize(MazeGrid grid) {
+        if (grid == null || grid.width() == 0 || grid.height() == 0) {
+            throw new IllegalArgumentException("Grid must be a non-empty maze grid.");
         }
 
-        this.height = grid.length;
-        this.width = grid[0].length;
+        this.grid = grid;
+        this.height = grid.height();
+        this.width = grid.width();
         this.numNodes = height * width;
 
-        // Assign unique indices to each node
-        nodeToIndex = new HashMap<>();
-        indexToNode = new HashMap<>();
-        int index = 0;
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                Node node = grid[row][col];
-                nodeToIndex.put(node, index);
-                indexToNode.put(index, node);
-                index++;
-            }
-        }
+        // Define start and goal cells; a cell's index is its node index
+        startIdx = grid.index(0, 0);
+        goalIdx = grid.index(width - 1, height - 1);
 
-        // Define start and goal nodes
-        start = grid[0][0];
-        goal = grid[height - 1][width - 1];
-        startIdx = nodeToIndex.get(start);
-        goalIdx = nodeToIndex.get(goal);
+        // Build the graph, unless edges are computed on the fly
+        if (!implicit) {
+            buildGraph(grid);
+        }
+    }
 
-        // Build the graph
-        buildGraph(grid);
+    /**
+     * Provides the edges of the maze, either from the built graph or computed from the grid.
+     *
+     * @return the adjacency of the maze
+     */
+    protected Adjacency adjacency() {
+        return implicit ? new ImplicitGraph(grid, costFunc) : graph;
     }
 
     /**
@@ -81,35 +89,73 @@ public abstract class AbstractMazeSolver implements MazeSolver {
      *
      * @param grid the maze grid
      */
-    protected void buildGraph(Node[][] grid) {
-        graph = new Graph(numNodes);
-
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                Node current = grid[row][col];
-                int u = nodeToIndex.get(current);
-
-                for (Node.Direction direction : Node.Direction.values()) {
-                    if (!current.walls().hasWall(direction)) { // Check if movement in this direction is possible
-                        Pair<Integer, Integer>
-                            neighborCoords = Maze.getNeighborCoordinates(current, direction, width, height);
-                        if (neighborCoords == null) {
-                            continue; // Neighbor is out of bounds
-                        }
-
-                        int neighborRow = neighborCoords.value();
-                        int neighborCol = neighborCoords.key();
-                        Node neighbor = grid[neighborRow][neighborCol];
-                        int v = nodeToIndex.get(neighbor);
-
-                        // Calculate movement cost
-                        double cost = costFunc.calculateCost(current.height(), neighbor.height());
-
-                        graph.addEdge(u, v, cost);
-                    }
+    protected void buildGraph(MazeGrid grid) {
+        // Each passage out of a cell is an edge, so edge offsets follow from the passage counts
+        int[] offsets = new int[numNodes + 1];
+        for (int u = 0; u < numNodes; u++) {
+            offsets[u + 1] = offsets[u] + Integer.bitCount(grid.passages(u));
+        }
+
+        int[] targets = new int[offsets[numNodes]];
+        double[] weights = new double[offsets[numNodes]];
+        int e = 0;
+        for (int u = 0; u < numNodes; u++) {
+            int heightU = grid.heightAt(u);
+
+            // Directions in which movement is possible
+            for (int mask = grid.passages(u); mask != 0; mask &= mask - 1) {
+                int v = u + grid.offset(Node.Direction.lowest(mask));
+
+                // Calculate movement cost
+                targets[e] = v;
+                weights[e] = costFunc.calculateCost(heightU, grid.heightAt(v));
+                e++;
+            }
+        }
+
+        graph = new Graph(offsets, targets, weights);
+    }
+
+    /**
+     * Finds the largest height difference between two cells connected by a passage.
+     *
+     * @param grid the maze grid
+     * @return the largest height difference of a single move
+     */
+    protected int maxHeightStep(MazeGrid grid) {
+        int forward = Node.Direction.EAST.mask() | Node.Direction.SOUTH.mask();
+        int max = 0;
+        for (int u = 0; u < numNodes; u++) {
+            // Every passage is seen from both sides, so checking two directions covers all of them
+            for (int mask = grid.passages(u) & forward; mask != 0; mask &= mask - 1) {
+                int v = u + grid.offset(Node.Direction.lowest(mask));
+                max = Math.max(max, Math.abs(grid.heightAt(u) - grid.heightAt(v)));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Checks whether any edge can still be relaxed after shortest distances have been computed,
+     * which means the graph contains a negative-weight cycle.
+     *
+     * @param graph the graph
+     * @param dist  the computed distances
+     * @return true if a negative-weight cycle is detected
+     */
+    protected static boolean hasNegativeCycle(Graph graph, double[] dist) {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        double[] weights = graph.weights();
+
+        for (int u = 0; u < graph.numNodes(); u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (dist[u] + weights[e] < dist[targets[e]]) {
+                    return true;
                 }
             }
         }
+        return false;
     }
 
     /**
@@ -128,20 +174,20 @@ public abstract class AbstractMazeSolver implements MazeSolver {
             if (current == -1) {
                 return Collections.emptyList(); // No path exists
             }
-            path.addFirst(indexToNode.get(current));
+            path.addFirst(grid.node(current));
             current = pred[current];
         }
 
-        path.addFirst(indexToNode.get(startIdx));
+        path.addFirst(grid.node(startIdx));
         return path;
     }
 
     /**
      * Abstract method to be implemented by concrete solvers.
      *
-     * @param grid the maze grid represented as a 2D array of Nodes
+     * @param grid the maze grid
      * @return a MazeSolution representing the path from start to goal, or null if no path is found
      */
     @Override
-    public abstract MazeSolution solve(Node[][] grid);
+    public abstract MazeSolution solve(MazeGrid grid);
 }
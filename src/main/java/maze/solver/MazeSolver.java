@@ -1,8 +1,8 @@
 package maze.solver;
 
-import maze.Node;
+import maze.grid.MazeGrid;
 import maze.solver.structs.MazeSolution;
 
 public interface MazeSolver {
-    MazeSolution solve(Node[][] grid);
+    MazeSolution solve(MazeGrid grid);
 }
@@ -1,6 +1,9 @@
 package maze.solver;
 
+import maze.solver.algorithms.AStarSolver;
 import maze.solver.algorithms.BellmanFordSolver;
+import maze.solver.algorithms.BidirectionalSolver;
+import maze.solver.algorithms.DijkstraSolver;
 import maze.solver.algorithms.JohnsonsSolver;
 import maze.solver.algorithms.SPFASolver;
 import maze.solver.functions.CostFunc;
@@ -23,6 +26,24 @@ public enum SolverType {
         public MazeSolver createSolver(CostFunc costFunc) {
             return new BellmanFordSolver(costFunc);
         }
+    },
+    DIJKSTRA {
+        @Override
+        public MazeSolver createSolver(CostFunc costFunc) {
+            return new DijkstraSolver(costFunc);
+        }
+    },
+    A_STAR {
+        @Override
+        public MazeSolver createSolver(CostFunc costFunc) {
+            return new AStarSolver(costFunc);
+        }
+    },
+    BIDIRECTIONAL {
+        @Override
+        public MazeSolver createSolver(CostFunc costFunc) {
+            return new BidirectionalSolver(costFunc);
+        }
     };
 
     public abstract MazeSolver createSolver(CostFunc costFunc);
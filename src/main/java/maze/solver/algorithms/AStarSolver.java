@@ -0,0 +1,117 @@
+package maze.solver.algorithms;
+
+import java.util.Arrays;
+import java.util.List;
+import maze.Node;
+import maze.grid.MazeGrid;
+import maze.solver.AbstractMazeSolver;
+import maze.solver.functions.CostFunc;
+import maze.solver.functions.CostHeuristic;
+import maze.solver.structs.Adjacency;
+import maze.solver.structs.IndexedHeap;
+import maze.solver.structs.MazeSolution;
+
+/**
+ * Implements the A* algorithm to solve a maze.
+ *
+ * <p>
+ * The search is guided by a heuristic derived from the cost function and the heights of the maze, so it expands
+ * fewer nodes than Dijkstra's algorithm while still finding an optimal path. Since the heuristic is consistent,
+ * a node's distance is final once it is expanded and the search stops as soon as the goal is expanded.
+ * </p>
+ */
+public class AStarSolver extends AbstractMazeSolver {
+    private static final int HEAP_ARITY = 4;
+
+    /**
+     * Constructs an AStarSolver with the specified CostFunc, using the configured graph mode.
+     *
+     * @param costFunc the cost function to calculate movement costs between nodes
+     */
+    public AStarSolver(CostFunc costFunc) {
+        this(costFunc, IMPLICIT_GRAPH);
+    }
+
+    /**
+     * Constructs an AStarSolver with the specified CostFunc and graph mode.
+     *
+     * @param costFunc the cost function to calculate movement costs between nodes
+     * @param implicit whether to compute edges from the grid on the fly instead of building a graph
+     */
+    public AStarSolver(CostFunc costFunc, boolean implicit) {
+        super(costFunc, implicit);
+    }
+
+    /**
+     * Solves the maze using the A* algorithm.
+     *
+     * @param grid the maze grid
+     * @return a MazeSolution representing the path from start to goal, or null if no path is found
+     * @throws IllegalStateException if no admissible heuristic exists for the cost function and maze heights
+     */
+    @Override
+    public MazeSolution solve(MazeGrid grid) {
+        initialize(grid);
+        CostHeuristic heuristic = costFunc.heuristic(() -> maxHeightStep(grid));
+
+        // Initialize distance and predecessor arrays
+        double[] dist = new double[numNodes];
+        int[] pred = new int[numNodes];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(pred, -1);
+
+        dist[startIdx] = 0.0;
+        pred[startIdx] = startIdx;
+
+        // Nodes are ordered by the distance so far plus the estimated remaining cost
+        IndexedHeap heap = new IndexedHeap(numNodes, HEAP_ARITY);
+        heap.push(startIdx, estimate(heuristic, startIdx));
+        int expanded = 0;
+
+        Adjacency adjacency = adjacency();
+        int[] targets = new int[Adjacency.MAX_DEGREE];
+        double[] weights = new double[Adjacency.MAX_DEGREE];
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            expanded++;
+            if (u == goalIdx) {
+                break; // The goal is expanded, its distance is final
+            }
+
+            int degree = adjacency.edges(u, targets, weights);
+            for (int e = 0; e < degree; e++) {
+                int v = targets[e];
+                double newDist = dist[u] + weights[e];
+                if (newDist < dist[v]) {
+                    dist[v] = newDist;
+                    pred[v] = u;
+                    heap.push(v, newDist + estimate(heuristic, v));
+                }
+            }
+        }
+
+        // Check if a path exists
+        if (dist[goalIdx] == Double.POSITIVE_INFINITY) {
+            return null; // No path found
+        }
+
+        // Reconstruct the path from start to goal
+        List<Node> path = reconstructPath(startIdx, goalIdx, pred);
+        double totalCost = dist[goalIdx];
+
+        return new MazeSolution(path, totalCost, expanded);
+    }
+
+    /**
+     * Estimates the remaining cost from a cell to the goal.
+     *
+     * @param heuristic the heuristic
+     * @param cell      the cell index
+     * @return a lower bound of the remaining cost
+     */
+    private double estimate(CostHeuristic heuristic, int cell) {
+        int steps = (width - 1 - cell % width) + (height - 1 - cell / width);
+        return heuristic.estimate(steps, grid.heightAt(cell), grid.heightAt(goalIdx));
+    }
+}
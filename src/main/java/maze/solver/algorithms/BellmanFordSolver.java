@@ -3,9 +3,9 @@ package maze.solver.algorithms;
 import java.util.Arrays;
 import java.util.List;
 import maze.Node;
+import maze.grid.MazeGrid;
 import maze.solver.AbstractMazeSolver;
 import maze.solver.functions.CostFunc;
-import maze.solver.structs.Graph;
 import maze.solver.structs.MazeSolution;
 
 /**
@@ -25,11 +25,11 @@ public class BellmanFordSolver extends AbstractMazeSolver {
     /**
      * Solves the maze using the Bellman-Ford algorithm.
      *
-     * @param grid the maze grid represented as a 2D array of Nodes
+     * @param grid the maze grid
      * @return a MazeSolution representing the path from start to goal, or null if no path is found
      */
     @Override
-    public MazeSolution solve(Node[][] grid) {
+    public MazeSolution solve(MazeGrid grid) {
         initialize(grid);
 
         // Initialize distance and predecessor arrays
@@ -41,14 +41,25 @@ public class BellmanFordSolver extends AbstractMazeSolver {
         dist[startIdx] = 0.0;
         pred[startIdx] = startIdx;
 
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        double[] weights = graph.weights();
+
         // Relax edges repeatedly
         for (int i = 1; i < numNodes; i++) {
             boolean updated = false;
-            for (Graph.Edge edge : graph.edgeList()) {
-                if (dist[edge.from] + edge.weight < dist[edge.to]) {
-                    dist[edge.to] = dist[edge.from] + edge.weight;
-                    pred[edge.to] = edge.from;
-                    updated = true;
+            for (int u = 0; u < numNodes; u++) {
+                double distU = dist[u];
+                if (distU == Double.POSITIVE_INFINITY) {
+                    continue; // Unreached nodes cannot relax their edges
+                }
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    if (distU + weights[e] < dist[v]) {
+                        dist[v] = distU + weights[e];
+                        pred[v] = u;
+                        updated = true;
+                    }
                 }
             }
             if (!updated) {
@@ -57,10 +68,8 @@ public class BellmanFordSolver extends AbstractMazeSolver {
         }
 
         // Check for negative-weight cycles
-        for (Graph.Edge edge : graph.edgeList()) {
-            if (dist[edge.from] + edge.weight < dist[edge.to]) {
-                throw new IllegalStateException("Graph contains a negative-weight cycle.");
-            }
+        if (hasNegativeCycle(graph, dist)) {
+            throw new IllegalStateException("Graph contains a negative-weight cycle.");
         }
 
         // Check if a path exists
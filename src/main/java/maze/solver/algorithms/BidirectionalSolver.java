@@ -0,0 +1,258 @@
+package maze.solver.algorithms;
+
+import config.Config;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import maze.Node;
+import maze.grid.MazeGrid;
+import maze.solver.AbstractMazeSolver;
+import maze.solver.functions.CostFunc;
+import maze.solver.structs.Adjacency;
+import maze.solver.structs.IndexedHeap;
+import maze.solver.structs.MazeSolution;
+
+/**
+ * Implements bidirectional Dijkstra's algorithm to solve a maze with non-negative movement costs.
+ *
+ * <p>
+ * One search runs forward from the start and another runs backward from the goal over reversed edges,
+ * since climbing and falling may cost differently. Whenever a search labels a node the other search has reached,
+ * the path through it is offered as a candidate. Both searches stop once the sum of their smallest keys
+ * is at least the cost of the best candidate, as no shorter path can be found after that.
+ * </p>
+ *
+ * <p>
+ * The searches either take turns on one thread or run on two threads. Distances are published with volatile
+ * accesses, so of two searches labeling the same node, at least one sees the label of the other. If one of the two
+ * threads fails, the other one stops as well and the failure is thrown from {@link #solve}.
+ * </p>
+ */
+public class BidirectionalSolver extends AbstractMazeSolver {
+    private static final boolean PARALLEL = Config.getInstance().solver().parallel();
+    private static final int HEAP_ARITY = 4;
+    private static final String BACKWARD_THREAD = "maze-backward-search";
+    private static final VarHandle DIST = MethodHandles.arrayElementVarHandle(double[].class);
+
+    private final boolean parallel;
+    private volatile double bestCost;
+    private int meetIdx;
+
+    /**
+     * Constructs a BidirectionalSolver with the specified CostFunc, using threads and the graph mode as configured.
+     *
+     * @param costFunc the cost function to calculate movement costs between nodes
+     */
+    public BidirectionalSolver(CostFunc costFunc) {
+        this(costFunc, PARALLEL, IMPLICIT_GRAPH);
+    }
+
+    /**
+     * Constructs a BidirectionalSolver with the specified CostFunc.
+     *
+     * @param costFunc the cost function to calculate movement costs between nodes
+     * @param parallel whether to run the forward and backward searches on separate threads
+     * @param implicit whether to compute edges from the grid on the fly instead of building a graph
+     */
+    public BidirectionalSolver(CostFunc costFunc, boolean parallel, boolean implicit) {
+        super(costFunc, implicit);
+        this.parallel = parallel;
+    }
+
+    /**
+     * Solves the maze using bidirectional Dijkstra's algorithm.
+     *
+     * @param grid the maze grid
+     * @return a MazeSolution representing the path from start to goal, or null if no path is found
+     * @throws IllegalStateException if the maze contains a negative movement cost
+     */
+    @Override
+    public MazeSolution solve(MazeGrid grid) {
+        initialize(grid);
+
+        if (costFunc.minCost(() -> maxHeightStep(grid)) < 0) {
+            throw new IllegalStateException("Bidirectional search requires non-negative movement costs.");
+        }
+
+        bestCost = Double.POSITIVE_INFINITY;
+        meetIdx = -1;
+        if (startIdx == goalIdx) {
+            offer(0.0, startIdx);
+        }
+
+        Adjacency adjacency = adjacency();
+        Search forward = new Search(adjacency, startIdx);
+        Search backward = new Search(adjacency.reversed(), goalIdx);
+        forward.other = backward;
+        backward.other = forward;
+
+        if (parallel) {
+            runInParallel(forward, backward);
+        } else {
+            // Advance the search with the smaller key, so both grow evenly in cost
+            while (!forward.done || !backward.done) {
+                boolean forwardNext = backward.done || !forward.done && forward.topKey() <= backward.topKey();
+                (forwardNext ? forward : backward).step();
+            }
+        }
+
+        // Check if a path exists
+        if (meetIdx == -1) {
+            return null; // No path found
+        }
+
+        // Join the forward path to the meeting node with the backward path from it
+        List<Node> path = reconstructPath(startIdx, meetIdx, forward.pred);
+        int current = meetIdx;
+        while (current != goalIdx) {
+            current = backward.pred[current];
+            path.add(grid.node(current));
+        }
+        double totalCost = forward.dist[meetIdx] + backward.dist[meetIdx];
+
+        return new MazeSolution(path, totalCost, forward.expanded + backward.expanded);
+    }
+
+    /**
+     * Runs the backward search on a thread of its own while the calling thread runs the forward search. Both
+     * searches have stopped when this returns, and a failure of either one is rethrown.
+     *
+     * @param forward  the search from the start
+     * @param backward the search from the goal
+     */
+    private static void runInParallel(Search forward, Search backward) {
+        FutureTask<Void> backwardSearch = new FutureTask<>(backward::run, null);
+        Thread.ofPlatform().name(BACKWARD_THREAD).start(backwardSearch);
+
+        Throwable failure = null;
+        try {
+            forward.run();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        }
+        try {
+            backwardSearch.get();
+        } catch (ExecutionException e) {
+            failure = combine(failure, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = combine(
+                failure,
+                new IllegalStateException("Interrupted while waiting for the backward search.", e)
+            );
+        }
+
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+    }
+
+    // Keeps the first failure and attaches later ones to it
+    private static Throwable combine(Throwable first, Throwable next) {
+        if (first == null) {
+            return next;
+        }
+        first.addSuppressed(next);
+        return first;
+    }
+
+    /**
+     * Records a path through the given node if it is cheaper than the best one found so far.
+     *
+     * @param cost    the cost of the path
+     * @param nodeIdx the node where the searches meet
+     */
+    private synchronized void offer(double cost, int nodeIdx) {
+        if (cost < bestCost) {
+            bestCost = cost;
+            meetIdx = nodeIdx;
+        }
+    }
+
+    /**
+     * A single direction of the search; only its owner thread writes to it.
+     */
+    private final class Search {
+        private final Adjacency adjacency;
+        private final int[] targets = new int[Adjacency.MAX_DEGREE];
+        private final double[] weights = new double[Adjacency.MAX_DEGREE];
+        private final double[] dist;
+        private final int[] pred;
+        private final IndexedHeap heap;
+        private Search other;
+        private volatile double radius;
+        private boolean done;
+        private int expanded;
+
+        Search(Adjacency adjacency, int sourceIdx) {
+            this.adjacency = adjacency;
+            this.dist = new double[numNodes];
+            this.pred = new int[numNodes];
+            this.heap = new IndexedHeap(numNodes, HEAP_ARITY);
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            Arrays.fill(pred, -1);
+
+            dist[sourceIdx] = 0.0;
+            pred[sourceIdx] = sourceIdx;
+            heap.push(sourceIdx, 0.0);
+        }
+
+        double topKey() {
+            return heap.isEmpty() ? Double.POSITIVE_INFINITY : heap.peekKey();
+        }
+
+        void run() {
+            try {
+                while (!done) {
+                    step();
+                }
+            } finally {
+                // A finished search lets the other one stop as well; a failed one must not leave it running to the end
+                radius = Double.POSITIVE_INFINITY;
+            }
+        }
+
+        /**
+         * Expands the closest unexpanded node, or finishes the search if no shorter path can be found.
+         */
+        void step() {
+            double key = topKey();
+            radius = key;
+            if (key + other.radius >= bestCost) {
+                done = true;
+                return;
+            }
+
+            int u = heap.poll();
+            expanded++;
+
+            int degree = adjacency.edges(u, targets, weights);
+            for (int e = 0; e < degree; e++) {
+                int v = targets[e];
+                double newDist = dist[u] + weights[e];
+                if (newDist < dist[v]) {
+                    pred[v] = u;
+                    DIST.setVolatile(dist, v, newDist);
+                    heap.push(v, newDist);
+
+                    double otherDist = (double) DIST.getVolatile(other.dist, v);
+                    if (otherDist != Double.POSITIVE_INFINITY) {
+                        offer(newDist + otherDist, v);
+                    }
+                }
+            }
+
+            // An exhausted search has labeled every node it can reach, so the other one cannot find a shorter
+            // path; without this, taking turns by key would never step it again and the other would run to the end
+            if (heap.isEmpty()) {
+                radius = Double.POSITIVE_INFINITY;
+            }
+        }
+    }
+}
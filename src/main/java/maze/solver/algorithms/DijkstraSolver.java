@@ -0,0 +1,106 @@
+package maze.solver.algorithms;
+
+import java.util.Arrays;
+import java.util.List;
+import maze.Node;
+import maze.grid.MazeGrid;
+import maze.solver.AbstractMazeSolver;
+import maze.solver.functions.CostFunc;
+import maze.solver.structs.Adjacency;
+import maze.solver.structs.IndexedHeap;
+import maze.solver.structs.MazeSolution;
+
+/**
+ * Implements Dijkstra's algorithm to solve a maze with non-negative movement costs.
+ *
+ * <p>
+ * The frontier is an indexed d-ary heap with decrease-key, and the search stops as soon as the goal is settled.
+ * </p>
+ */
+public class DijkstraSolver extends AbstractMazeSolver {
+    // Number of children per heap node; 4 keeps the heap shallow while a node's children share a cache line
+    private static final int HEAP_ARITY = 4;
+
+    /**
+     * Constructs a DijkstraSolver with the specified CostFunc, using the configured graph mode.
+     *
+     * @param costFunc the cost function to calculate movement costs between nodes
+     */
+    public DijkstraSolver(CostFunc costFunc) {
+        this(costFunc, IMPLICIT_GRAPH);
+    }
+
+    /**
+     * Constructs a DijkstraSolver with the specified CostFunc and graph mode.
+     *
+     * @param costFunc the cost function to calculate movement costs between nodes
+     * @param implicit whether to compute edges from the grid on the fly instead of building a graph
+     */
+    public DijkstraSolver(CostFunc costFunc, boolean implicit) {
+        super(costFunc, implicit);
+    }
+
+    /**
+     * Solves the maze using Dijkstra's algorithm.
+     *
+     * @param grid the maze grid
+     * @return a MazeSolution representing the path from start to goal, or null if no path is found
+     * @throws IllegalStateException if the maze contains a negative movement cost
+     */
+    @Override
+    public MazeSolution solve(MazeGrid grid) {
+        initialize(grid);
+
+        // Checked up front, since the early stop may leave a negative edge unexplored
+        if (costFunc.minCost(() -> maxHeightStep(grid)) < 0) {
+            throw new IllegalStateException("Dijkstra's algorithm requires non-negative movement costs.");
+        }
+
+        // Initialize distance and predecessor arrays
+        double[] dist = new double[numNodes];
+        int[] pred = new int[numNodes];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(pred, -1);
+
+        dist[startIdx] = 0.0;
+        pred[startIdx] = startIdx;
+
+        IndexedHeap heap = new IndexedHeap(numNodes, HEAP_ARITY);
+        heap.push(startIdx, 0.0);
+        int expanded = 0;
+
+        Adjacency adjacency = adjacency();
+        int[] targets = new int[Adjacency.MAX_DEGREE];
+        double[] weights = new double[Adjacency.MAX_DEGREE];
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            expanded++;
+            if (u == goalIdx) {
+                break; // The goal is settled, its distance is final
+            }
+
+            int degree = adjacency.edges(u, targets, weights);
+            for (int e = 0; e < degree; e++) {
+                int v = targets[e];
+                double newDist = dist[u] + weights[e];
+                if (newDist < dist[v]) {
+                    dist[v] = newDist;
+                    pred[v] = u;
+                    heap.push(v, newDist);
+                }
+            }
+        }
+
+        // Check if a path exists
+        if (dist[goalIdx] == Double.POSITIVE_INFINITY) {
+            return null; // No path found
+        }
+
+        // Reconstruct the path from start to goal
+        List<Node> path = reconstructPath(startIdx, goalIdx, pred);
+        double totalCost = dist[goalIdx];
+
+        return new MazeSolution(path, totalCost, expanded);
+    }
+}
@@ -1,20 +1,21 @@
 package maze.solver.algorithms;
 
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
-import java.util.PriorityQueue;
 import maze.Node;
+import maze.grid.MazeGrid;
 import maze.solver.AbstractMazeSolver;
 import maze.solver.functions.CostFunc;
 import maze.solver.structs.Graph;
+import maze.solver.structs.IndexedHeap;
 import maze.solver.structs.MazeSolution;
-import util.Pair;
 
 /**
  * Implements Johnson's algorithm to solve a maze with potential negative edge weights.
  */
 public class JohnsonsSolver extends AbstractMazeSolver {
+    private static final int HEAP_ARITY = 4;
+
     /**
      * Constructs a JohnsonsSolver with the specified CostFunc.
      *
@@ -27,19 +28,16 @@ public class JohnsonsSolver extends AbstractMazeSolver {
     /**
      * Solves the maze using Johnson's algorithm.
      *
-     * @param grid the maze grid represented as a 2D array of Nodes
+     * @param grid the maze grid
      * @return a MazeSolution representing the path from start to goal, or null if no path is found
      */
     @Override
-    public MazeSolution solve(Node[][] grid) {
+    public MazeSolution solve(MazeGrid grid) {
         initialize(grid);
 
-        // Step 1: Add a new node q and connect it to all nodes with edge weight 0
-        int qIdx = numNodes; // Index for the new node q
-        Graph augmentedGraph = buildAugmentedGraphWithQ();
-
-        // Step 2: Run Bellman-Ford from q to compute h(v)
-        double[] h = bellmanFord(augmentedGraph, qIdx, numNodes + 1);
+        // Steps 1-2: Run Bellman-Ford from a virtual node q connected to all nodes with edge weight 0.
+        // q is never stored: its edges only set every distance to 0 before the first round
+        double[] h = bellmanFordFromQ();
 
         // Step 3: Check for negative-weight cycles
         if (h == null) {
@@ -65,47 +63,29 @@ public class JohnsonsSolver extends AbstractMazeSolver {
     }
 
     /**
-     * Builds the augmented graph by adding a new node q connected to all nodes with edge weight 0.
+     * Runs the Bellman-Ford algorithm from the virtual node q to compute the potential of every node.
      *
-     * @return the augmented graph
+     * @return the array of shortest distances from q or null if a negative cycle is detected
      */
-    private Graph buildAugmentedGraphWithQ() {
-        Graph augmentedGraph = new Graph(numNodes + 1);
-
-        // Copy existing edges
-        for (Graph.Edge edge : graph.edgeList()) {
-            augmentedGraph.addEdge(edge.from, edge.to, edge.weight);
-        }
-
-        // Connect q to all nodes with edge weight 0
-        int qIdx = numNodes;
-        for (int i = 0; i < numNodes; i++) {
-            augmentedGraph.addEdge(qIdx, i, 0.0);
-        }
-
-        return augmentedGraph;
-    }
+    private double[] bellmanFordFromQ() {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        double[] weights = graph.weights();
 
-    /**
-     * Runs the Bellman-Ford algorithm to compute shortest paths from the source.
-     *
-     * @param graph      the graph
-     * @param source     the source node index
-     * @param totalNodes the total number of nodes in the graph
-     * @return the array of shortest distances or null if a negative cycle is detected
-     */
-    private double[] bellmanFord(Graph graph, int source, int totalNodes) {
-        double[] dist = new double[totalNodes];
-        Arrays.fill(dist, Double.POSITIVE_INFINITY);
-        dist[source] = 0.0;
+        // Every node is reached from q with a zero-weight edge
+        double[] dist = new double[numNodes];
 
-        // Relax edges repeatedly
-        for (int i = 1; i < totalNodes; i++) {
+        // Relax edges repeatedly; q adds one node, hence one more round
+        for (int i = 1; i <= numNodes; i++) {
             boolean updated = false;
-            for (Graph.Edge edge : graph.edgeList()) {
-                if (dist[edge.from] + edge.weight < dist[edge.to]) {
-                    dist[edge.to] = dist[edge.from] + edge.weight;
-                    updated = true;
+            for (int u = 0; u < numNodes; u++) {
+                double distU = dist[u];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    if (distU + weights[e] < dist[v]) {
+                        dist[v] = distU + weights[e];
+                        updated = true;
+                    }
                 }
             }
             if (!updated) {
@@ -114,10 +94,8 @@ public class JohnsonsSolver extends AbstractMazeSolver {
         }
 
         // Check for negative-weight cycles
-        for (Graph.Edge edge : graph.edgeList()) {
-            if (dist[edge.from] + edge.weight < dist[edge.to]) {
-                return null; // Negative cycle detected
-            }
+        if (hasNegativeCycle(graph, dist)) {
+            return null; // Negative cycle detected
         }
 
         return dist;
@@ -130,16 +108,18 @@ public class JohnsonsSolver extends AbstractMazeSolver {
      * @return the reweighted graph
      */
     private Graph reweightEdges(double[] h) {
-        Graph reweightedGraph = new Graph(numNodes);
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        double[] weights = graph.weights();
+        double[] newWeights = new double[weights.length];
 
         for (int u = 0; u < numNodes; u++) {
-            for (Graph.Edge edge : graph.adjacencyList().get(u)) {
-                double newWeight = edge.weight + h[u] - h[edge.to];
-                reweightedGraph.addEdge(u, edge.to, newWeight);
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                newWeights[e] = weights[e] + h[u] - h[targets[e]];
             }
         }
 
-        return reweightedGraph;
+        return graph.withWeights(newWeights);
     }
 
     /**
@@ -157,26 +137,24 @@ public class JohnsonsSolver extends AbstractMazeSolver {
         dist[source] = 0.0;
         pred[source] = source;
 
-        // Priority queue to select the node with the smallest distance
-        PriorityQueue<Pair<Double, Integer>> pq = new PriorityQueue<>(Comparator.comparingDouble(Pair::key));
-        pq.add(new Pair<>(0.0, source));
+        // Indexed heap to select the node with the smallest distance
+        IndexedHeap heap = new IndexedHeap(numNodes, HEAP_ARITY);
+        heap.push(source, 0.0);
 
-        while (!pq.isEmpty()) {
-            Pair<Double, Integer> currentPair = pq.poll();
-            double currentDist = currentPair.key();
-            int u = currentPair.value();
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        double[] weights = graph.weights();
 
-            if (currentDist > dist[u]) {
-                continue; // A shorter path to u has already been found
-            }
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
 
-            for (Graph.Edge edge : graph.adjacencyList().get(u)) {
-                int v = edge.to;
-                double newDist = dist[u] + edge.weight;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                double newDist = dist[u] + weights[e];
                 if (newDist < dist[v]) {
                     dist[v] = newDist;
                     pred[v] = u;
-                    pq.add(new Pair<>(newDist, v));
+                    heap.push(v, newDist);
                 }
             }
         }
@@ -1,13 +1,11 @@
 package maze.solver.algorithms;
 
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
 import maze.Node;
+import maze.grid.MazeGrid;
 import maze.solver.AbstractMazeSolver;
 import maze.solver.functions.CostFunc;
-import maze.solver.structs.Graph;
 import maze.solver.structs.MazeSolution;
 
 /**
@@ -26,11 +24,11 @@ public class SPFASolver extends AbstractMazeSolver {
     /**
      * Solves the maze using the SPFA algorithm.
      *
-     * @param grid the maze grid represented as a 2D array of Nodes
+     * @param grid the maze grid
      * @return a MazeSolution representing the path from start to goal, or null if no path is found
      */
     @Override
-    public MazeSolution solve(Node[][] grid) {
+    public MazeSolution solve(MazeGrid grid) {
         initialize(grid);
 
         // Initialize distance and predecessor arrays
@@ -42,29 +40,40 @@ public class SPFASolver extends AbstractMazeSolver {
         dist[startIdx] = 0.0;
         pred[startIdx] = startIdx;
 
-        // Initialize queue and in-queue flags
-        Queue<Integer> queue = new LinkedList<>();
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        double[] weights = graph.weights();
+
+        // Initialize queue and in-queue flags; a node is queued at most once, so a ring of numNodes slots suffices
+        int[] queue = new int[numNodes];
+        int head = 0;
+        int size = 0;
         boolean[] inQueue = new boolean[numNodes];
 
         // Enqueue the start node
-        queue.add(startIdx);
+        queue[0] = startIdx;
+        size++;
         inQueue[startIdx] = true;
 
         // Relax edges using SPFA
-        while (!queue.isEmpty()) {
-            int u = queue.poll();
+        while (size > 0) {
+            int u = queue[head];
+            head = head + 1 == numNodes ? 0 : head + 1;
+            size--;
             inQueue[u] = false;
 
-            for (Graph.Edge edge : graph.adjacencyList().get(u)) {
-                int v = edge.to;
-                double newDist = dist[u] + edge.weight;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                double newDist = dist[u] + weights[e];
 
                 if (newDist < dist[v]) {
                     dist[v] = newDist;
                     pred[v] = u;
 
                     if (!inQueue[v]) {
-                        queue.add(v);
+                        int tail = head + size;
+                        queue[tail >= numNodes ? tail - numNodes : tail] = v;
+                        size++;
                         inQueue[v] = true;
                     }
                 }
@@ -72,10 +81,8 @@ public class SPFASolver extends AbstractMazeSolver {
         }
 
         // Optional: Detect negative cycles by performing one more relaxation
-        for (Graph.Edge edge : graph.edgeList()) {
-            if (dist[edge.from] + edge.weight < dist[edge.to]) {
-                throw new IllegalStateException("Graph contains a negative-weight cycle.");
-            }
+        if (hasNegativeCycle(graph, dist)) {
+            throw new IllegalStateException("Graph contains a negative-weight cycle.");
         }
 
         // Check if a path exists
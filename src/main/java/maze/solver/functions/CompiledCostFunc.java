@@ -0,0 +1,68 @@
+package maze.solver.functions;
+
+import java.util.function.IntSupplier;
+
+/**
+ * A cost function evaluated once for every height difference up to a bound and then read from a table.
+ *
+ * <p>
+ * Heights in [-range, range] differ by at most 2·range between any two cells, so a table of 4·range + 1 costs,
+ * indexed by the difference, replaces the {@code Math.pow} and {@code Math.tanh} calls of a move with an array
+ * read. Moves between heights that differ by more than the bound are still costed by the compiled function, so
+ * the table gives the same costs on any grid. The table is never modified and can be shared between threads.
+ * </p>
+ */
+public class CompiledCostFunc extends CostFunc {
+    private final CostFunc source;
+    private final int maxHeightDiff;
+    private final double[] costs;
+
+    /**
+     * Compiles a cost function for height differences of at most the given bound.
+     *
+     * @param source        the cost function to compile
+     * @param maxHeightDiff the largest height difference held in the table
+     */
+    public CompiledCostFunc(CostFunc source, int maxHeightDiff) {
+        if (maxHeightDiff < 0) {
+            throw new IllegalArgumentException("Height difference bound must be non-negative.");
+        }
+        this.source = source;
+        this.maxHeightDiff = maxHeightDiff;
+
+        // costs[maxHeightDiff + diff] is the cost of a move to a cell diff higher
+        this.costs = new double[2 * maxHeightDiff + 1];
+        for (int diff = -maxHeightDiff; diff <= maxHeightDiff; diff++) {
+            costs[maxHeightDiff + diff] = source.calculateCost(0, diff);
+        }
+    }
+
+    @Override
+    public double calculateCost(int currHeight, int nextHeight) {
+        int index = nextHeight - currHeight + maxHeightDiff;
+        if (index >= 0 && index < costs.length) {
+            return costs[index];
+        }
+        return source.calculateCost(currHeight, nextHeight);
+    }
+
+    @Override
+    public double minCost(IntSupplier maxHeightDiff) {
+        return source.minCost(maxHeightDiff);
+    }
+
+    @Override
+    public CostHeuristic heuristic(IntSupplier maxHeightDiff) {
+        return source.heuristic(maxHeightDiff);
+    }
+
+    @Override
+    double calculateClimbCost(int heightDiff) {
+        return source.calculateClimbCost(heightDiff);
+    }
+
+    @Override
+    double calculateFallCost(int heightDiff) {
+        return source.calculateFallCost(heightDiff);
+    }
+}
@@ -1,6 +1,29 @@
 package maze.solver.functions;
 
+import java.util.function.IntSupplier;
+
 public class ConstantCostFunc extends CostFunc {
+    /**
+     * Every move costs 1.
+     *
+     * @param maxHeightDiff not needed
+     * @return 1
+     */
+    @Override
+    public double minCost(IntSupplier maxHeightDiff) {
+        return 1;
+    }
+
+    /**
+     * Every move costs 1, so the number of remaining moves is exact on open ground, whatever the heights.
+     *
+     * @param maxHeightDiff not needed
+     * @return the heuristic
+     */
+    @Override
+    public CostHeuristic heuristic(IntSupplier maxHeightDiff) {
+        return (steps, currHeight, targetHeight) -> steps;
+    }
 
     @Override
     double calculateClimbCost(int heightDiff) {
@@ -1,5 +1,7 @@
 package maze.solver.functions;
 
+import java.util.function.IntSupplier;
+
 public abstract class CostFunc {
     public double calculateCost(int currHeight, int nextHeight) {
         if (currHeight <= nextHeight) {
@@ -8,6 +10,39 @@ public abstract class CostFunc {
         return calculateFallCost(currHeight - nextHeight);
     }
 
+    /**
+     * Finds the cheapest single move when neighboring heights differ by at most the supplied amount.
+     *
+     * @param maxHeightDiff supplies the largest height difference between neighboring cells; only called by
+     *                      functions whose cheapest move depends on it, since it may have to read every height
+     * @return the minimum cost of a single move
+     */
+    public double minCost(IntSupplier maxHeightDiff) {
+        double min = calculateClimbCost(0);
+        int bound = maxHeightDiff.getAsInt();
+        for (int diff = 1; diff <= bound; diff++) {
+            min = Math.min(min, Math.min(calculateClimbCost(diff), calculateFallCost(diff)));
+        }
+        return min;
+    }
+
+    /**
+     * Creates an admissible and consistent heuristic for this cost function.
+     * By default, every remaining move is assumed to cost as little as the cheapest possible move.
+     *
+     * @param maxHeightDiff supplies the largest height difference between neighboring cells; only called by
+     *                      heuristics that depend on it, since it may have to read the height of every cell
+     * @return the heuristic
+     * @throws IllegalStateException if moves can have a negative cost and no heuristic is known for them
+     */
+    public CostHeuristic heuristic(IntSupplier maxHeightDiff) {
+        double minStep = minCost(maxHeightDiff);
+        if (minStep < 0) {
+            throw new IllegalStateException("No admissible heuristic: the cost function has negative costs.");
+        }
+        return (steps, currHeight, targetHeight) -> steps * minStep;
+    }
+
     abstract double calculateClimbCost(int heightDiff);
 
     abstract double calculateFallCost(int heightDiff);
@@ -1,5 +1,8 @@
 package maze.solver.functions;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public enum CostFuncType {
     LINEAR {
         @Override
@@ -26,8 +29,29 @@ public enum CostFuncType {
         }
     };
 
+    // Ranges above this are not compiled, as their tables would outweigh the costs they save
+    private static final int MAX_COMPILED_RANGE = 65_536;
+
+    // Compiled functions by height range, shared by every maze with that range
+    private final Map<Integer, CostFunc> compiled = new ConcurrentHashMap<>();
+
     public abstract CostFunc createCostFunc();
 
+    /**
+     * Provides the cost function compiled into a table of costs for heights in [-heightRange, heightRange].
+     * The table is built on the first request for a range and shared by all later ones.
+     * Ranges that are unbounded (0 or less) or too large to tabulate get the function itself.
+     *
+     * @param heightRange the range of the heights of the maze
+     * @return the cost function
+     */
+    public CostFunc createCostFunc(int heightRange) {
+        if (heightRange <= 0 || heightRange > MAX_COMPILED_RANGE) {
+            return createCostFunc();
+        }
+        return compiled.computeIfAbsent(heightRange, range -> new CompiledCostFunc(createCostFunc(), 2 * range));
+    }
+
     public static CostFuncType fromString(String typeStr) {
         try {
             return CostFuncType.valueOf(typeStr.toUpperCase());
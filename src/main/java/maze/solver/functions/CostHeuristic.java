@@ -0,0 +1,22 @@
+package maze.solver.functions;
+
+/**
+ * A lower bound of the cost of moving between two cells, used to guide goal-directed search.
+ *
+ * <p>
+ * Estimates must never exceed the real cost of any path (admissibility) and must not drop by more than the cost
+ * of a single move (consistency), so that a cell's distance is final once it is expanded.
+ * </p>
+ */
+@FunctionalInterface
+public interface CostHeuristic {
+    /**
+     * Estimates the cost of reaching the target.
+     *
+     * @param steps        the minimal number of moves to the target (Manhattan distance)
+     * @param currHeight   the height of the current cell
+     * @param targetHeight the height of the target cell
+     * @return a lower bound of the cost of any path to the target
+     */
+    double estimate(int steps, int currHeight, int targetHeight);
+}
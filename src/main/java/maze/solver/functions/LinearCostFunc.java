@@ -1,6 +1,19 @@
 package maze.solver.functions;
 
+import java.util.function.IntSupplier;
+
 public class LinearCostFunc extends CostFunc {
+    /**
+     * Climbs and falls cancel out, so every path costs exactly the net height change.
+     *
+     * @param maxHeightDiff supplies the largest height difference between neighboring cells
+     * @return the exact remaining cost
+     */
+    @Override
+    public CostHeuristic heuristic(IntSupplier maxHeightDiff) {
+        return (steps, currHeight, targetHeight) -> targetHeight - currHeight;
+    }
+
     @Override
     double calculateClimbCost(int heightDiff) {
         return heightDiff;
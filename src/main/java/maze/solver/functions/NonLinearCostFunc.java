@@ -1,10 +1,24 @@
 package maze.solver.functions;
 
 import config.Config;
+import java.util.function.IntSupplier;
 
 public class NonLinearCostFunc extends CostFunc {
     private static final double PENALTY_TRESHOLD = Config.getInstance().costFunc().penaltyTreshold();
 
+    /**
+     * A climb by d costs d^1.5 &gt;= d, so a net climb costs at least its height while falls are free at best.
+     * Only available when no fall is steep enough to have a negative cost.
+     *
+     * @param maxHeightDiff supplies the largest height difference between neighboring cells
+     * @return the heuristic
+     */
+    @Override
+    public CostHeuristic heuristic(IntSupplier maxHeightDiff) {
+        super.heuristic(maxHeightDiff); // Rejects negative costs
+        return (steps, currHeight, targetHeight) -> Math.max(0, targetHeight - currHeight);
+    }
+
     @Override
     @SuppressWarnings("MagicNumber")
     double calculateClimbCost(int heightDiff) {
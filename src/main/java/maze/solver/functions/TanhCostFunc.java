@@ -1,6 +1,31 @@
 package maze.solver.functions;
 
+import java.util.function.IntSupplier;
+
 public class TanhCostFunc extends CostFunc {
+    /**
+     * A move between equal heights costs tanh(0) = 0, and no move costs less.
+     *
+     * @param maxHeightDiff not needed
+     * @return 0
+     */
+    @Override
+    public double minCost(IntSupplier maxHeightDiff) {
+        return 0;
+    }
+
+    /**
+     * Tanh is subadditive on non-negative values, so climbing or falling by a total amount costs at least
+     * the tanh of that amount, however the path splits it.
+     *
+     * @param maxHeightDiff supplies the largest height difference between neighboring cells
+     * @return the heuristic
+     */
+    @Override
+    public CostHeuristic heuristic(IntSupplier maxHeightDiff) {
+        return (steps, currHeight, targetHeight) -> Math.tanh(Math.abs(targetHeight - currHeight));
+    }
+
     @Override
     double calculateClimbCost(int heightDiff) {
         return Math.tanh(heightDiff);
@@ -0,0 +1,26 @@
+package maze.solver.structs;
+
+/**
+ * Provides the outgoing edges of each node, for solvers that can work with either a stored or an implicit graph.
+ */
+public interface Adjacency {
+    // A cell has at most one passage in each direction
+    int MAX_DEGREE = 4;
+
+    /**
+     * Copies the outgoing edges of a node into the given buffers.
+     *
+     * @param node    the node index
+     * @param targets the buffer receiving the target of each edge, at least {@link #MAX_DEGREE} long
+     * @param weights the buffer receiving the weight of each edge, at least {@link #MAX_DEGREE} long
+     * @return the number of edges copied
+     */
+    int edges(int node, int[] targets, double[] weights);
+
+    /**
+     * Creates the adjacency with every edge reversed, used to search backward from a target.
+     *
+     * @return the reversed adjacency
+     */
+    Adjacency reversed();
+}
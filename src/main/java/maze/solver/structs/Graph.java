@@ -1,50 +1,96 @@
 package maze.solver.structs;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import lombok.Getter;
 
 /**
- * Represents a graph structure for the maze, supporting both edge list and adjacency list representations.
+ * Represents the directed graph of the maze in compressed sparse row form.
+ *
+ * <p>
+ * The edges leaving node {@code u} occupy indices {@code [offsets[u], offsets[u + 1])} of {@code targets}
+ * and {@code weights}, so all edges live in three flat arrays and are visited in memory order.
+ * </p>
  */
 @Getter
-public class Graph {
-    private final List<Edge> edgeList;
-    private final List<List<Edge>> adjacencyList;
-
-    public Graph(int numNodes) {
-        this.edgeList = new ArrayList<>();
-        this.adjacencyList = new ArrayList<>(numNodes);
-        for (int i = 0; i < numNodes; i++) {
-            adjacencyList.add(new ArrayList<>());
+public class Graph implements Adjacency {
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+
+    /**
+     * Constructs a graph from its compressed sparse row arrays.
+     *
+     * @param offsets the index of the first edge of each node, followed by the total number of edges
+     * @param targets the target node of each edge
+     * @param weights the weight of each edge
+     */
+    public Graph(int[] offsets, int[] targets, double[] weights) {
+        if (offsets.length == 0 || targets.length != offsets[offsets.length - 1] || weights.length != targets.length) {
+            throw new IllegalArgumentException("Edge arrays do not match the offsets.");
         }
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public int numNodes() {
+        return offsets.length - 1;
+    }
+
+    public int numEdges() {
+        return targets.length;
     }
 
-    public void addEdge(int from, int to, double weight) {
-        Edge edge = new Edge(from, to, weight);
-        edgeList.add(edge);
-        adjacencyList.get(from).add(new Edge(to, weight));
+    @Override
+    public int edges(int node, int[] edgeTargets, double[] edgeWeights) {
+        int count = 0;
+        for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+            edgeTargets[count] = targets[e];
+            edgeWeights[count] = weights[e];
+            count++;
+        }
+        return count;
     }
 
     /**
-     * Represents an edge in the graph.
+     * Creates a graph with the same edges but different weights.
+     *
+     * @param newWeights the weight of each edge, in the order of this graph
+     * @return the reweighted graph, sharing the offsets and targets of this graph
      */
-    public static class Edge {
-        public final int from;
-        public final int to;
-        public final double weight;
-
-        public Edge(int from, int to, double weight) {
-            this.from = from;
-            this.to = to;
-            this.weight = weight;
+    public Graph withWeights(double[] newWeights) {
+        return new Graph(offsets, targets, newWeights);
+    }
+
+    /**
+     * Creates a graph with every edge reversed, used to search backward from a target.
+     *
+     * @return the reversed graph
+     */
+    @Override
+    public Graph reversed() {
+        int numNodes = numNodes();
+
+        // Count incoming edges of each node, then turn the counts into offsets
+        int[] reversedOffsets = new int[numNodes + 1];
+        for (int target : targets) {
+            reversedOffsets[target + 1]++;
+        }
+        for (int v = 0; v < numNodes; v++) {
+            reversedOffsets[v + 1] += reversedOffsets[v];
         }
 
-        // Constructor for adjacency list where 'from' is implicit
-        public Edge(int to, double weight) {
-            this.from = -1; // Not used in adjacency list
-            this.to = to;
-            this.weight = weight;
+        int[] reversedTargets = new int[targets.length];
+        double[] reversedWeights = new double[weights.length];
+        int[] next = Arrays.copyOf(reversedOffsets, numNodes);
+        for (int u = 0; u < numNodes; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int slot = next[targets[e]]++;
+                reversedTargets[slot] = u;
+                reversedWeights[slot] = weights[e];
+            }
         }
+
+        return new Graph(reversedOffsets, reversedTargets, reversedWeights);
     }
 }
@@ -0,0 +1,63 @@
+package maze.solver.structs;
+
+import maze.Node;
+import maze.grid.MazeGrid;
+import maze.solver.functions.CostFunc;
+
+/**
+ * Derives the edges of the maze graph from the grid on demand, without storing them.
+ *
+ * <p>
+ * A node is a cell index, its edges are the passages left open by the wall bits, and each weight is computed
+ * from the heights of the two cells when the edge is visited. Nothing is built up front, so single-query
+ * searches that stop early never pay for the parts of the maze they do not reach.
+ * </p>
+ */
+public class ImplicitGraph implements Adjacency {
+    private final MazeGrid grid;
+    private final CostFunc costFunc;
+    private final boolean reversed;
+    private final int[] directionOffsets = new int[Node.Direction.values().length];
+
+    /**
+     * Constructs an implicit graph over the grid.
+     *
+     * @param grid     the maze grid
+     * @param costFunc the cost function to calculate movement costs between cells
+     */
+    public ImplicitGraph(MazeGrid grid, CostFunc costFunc) {
+        this(grid, costFunc, false);
+    }
+
+    private ImplicitGraph(MazeGrid grid, CostFunc costFunc, boolean reversed) {
+        this.grid = grid;
+        this.costFunc = costFunc;
+        this.reversed = reversed;
+        for (Node.Direction direction : Node.Direction.values()) {
+            directionOffsets[direction.ordinal()] = grid.offset(direction);
+        }
+    }
+
+    @Override
+    public int edges(int node, int[] targets, double[] weights) {
+        int height = grid.heightAt(node);
+        int count = 0;
+        for (int mask = grid.passages(node); mask != 0; mask &= mask - 1) {
+            int neighbor = node + directionOffsets[Integer.numberOfTrailingZeros(mask)];
+            int neighborHeight = grid.heightAt(neighbor);
+
+            // A reversed edge leads from the neighbor into this node
+            targets[count] = neighbor;
+            weights[count] = reversed
+                ? costFunc.calculateCost(neighborHeight, height)
+                : costFunc.calculateCost(height, neighborHeight);
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public ImplicitGraph reversed() {
+        return new ImplicitGraph(grid, costFunc, !reversed);
+    }
+}
@@ -0,0 +1,179 @@
+package maze.solver.structs;
+
+import java.util.Arrays;
+
+/**
+ * An indexed d-ary min-heap of integer items keyed by doubles, supporting decrease-key.
+ *
+ * <p>
+ * Items are integers in {@code [0, capacity)}. The heap is backed by primitive arrays allocated once,
+ * so pushing, decreasing and polling items never allocate.
+ * </p>
+ */
+public class IndexedHeap {
+    private static final int ABSENT = -1;
+    private static final String EMPTY_HEAP = "Heap is empty.";
+
+    private final int arity;
+    private final int[] heap;       // Items in heap order
+    private final int[] positions;  // Position of each item in the heap, or ABSENT
+    private final double[] keys;    // Key of each item
+    private int size;
+
+    /**
+     * Constructs an empty heap.
+     *
+     * @param capacity the number of distinct items the heap can hold
+     * @param arity    the number of children per heap node, at least 2
+     */
+    public IndexedHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2.");
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new double[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the item is currently in the heap.
+     *
+     * @param item the item to check
+     * @return true if the item is in the heap
+     */
+    public boolean contains(int item) {
+        return positions[item] != ABSENT;
+    }
+
+    /**
+     * Inserts the item with the given key, or lowers its key if it is already in the heap.
+     * A key that is not lower than the current one is ignored.
+     *
+     * @param item the item to insert or update
+     * @param key  the new key of the item
+     */
+    public void push(int item, double key) {
+        int position = positions[item];
+        if (position == ABSENT) {
+            position = size++;
+            heap[position] = item;
+            positions[item] = position;
+        } else if (key >= keys[item]) {
+            return;
+        }
+        keys[item] = key;
+        siftUp(position);
+    }
+
+    /**
+     * Retrieves the smallest key in the heap.
+     *
+     * @return the key of the top item
+     * @throws IllegalStateException if the heap is empty
+     */
+    public double peekKey() {
+        if (size == 0) {
+            throw new IllegalStateException(EMPTY_HEAP);
+        }
+        return keys[heap[0]];
+    }
+
+    /**
+     * Removes and returns the item with the smallest key.
+     *
+     * @return the top item
+     * @throws IllegalStateException if the heap is empty
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new IllegalStateException(EMPTY_HEAP);
+        }
+        int top = heap[0];
+        positions[top] = ABSENT;
+
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            positions[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Removes all items from the heap.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        int item = heap[position];
+        double key = keys[item];
+        int current = position;
+
+        while (current > 0) {
+            int parent = (current - 1) / arity;
+            int parentItem = heap[parent];
+            if (keys[parentItem] <= key) {
+                break;
+            }
+            heap[current] = parentItem;
+            positions[parentItem] = current;
+            current = parent;
+        }
+
+        heap[current] = item;
+        positions[item] = current;
+    }
+
+    private void siftDown(int position) {
+        int item = heap[position];
+        double key = keys[item];
+        int current = position;
+
+        while (true) {
+            int firstChild = current * arity + 1;
+            if (firstChild >= size) {
+                break;
+            }
+
+            // Find the smallest child
+            int lastChild = Math.min(firstChild + arity, size);
+            int best = firstChild;
+            double bestKey = keys[heap[firstChild]];
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                double childKey = keys[heap[child]];
+                if (childKey < bestKey) {
+                    best = child;
+                    bestKey = childKey;
+                }
+            }
+
+            if (bestKey >= key) {
+                break;
+            }
+            int bestItem = heap[best];
+            heap[current] = bestItem;
+            positions[bestItem] = current;
+            current = best;
+        }
+
+        heap[current] = item;
+        positions[item] = current;
+    }
+}
@@ -1,5 +1,6 @@
 package maze.solver.structs;
 
+import java.util.Iterator;
 import java.util.List;
 import maze.Node;
 import maze.solver.functions.CostFunc;
@@ -7,16 +8,18 @@ import maze.solver.functions.CostFunc;
 /**
  * Represents the solution to a maze, containing the path from start to goal and the total cost.
  *
- * @param totalCost New field to store total cost
+ * @param totalCost     New field to store total cost
+ * @param expandedNodes the number of nodes the solver expanded, or 0 if it does not track expansions
  */
-public record MazeSolution(List<Node> path, double totalCost) {
+public record MazeSolution(List<Node> path, double totalCost, int expandedNodes) {
     /**
      * Constructs a MazeSolution with the specified path and total cost.
      *
      * @param path      the list of nodes representing the path from start to goal
      * @param totalCost the total cost of the path
      */
-    public MazeSolution {
+    public MazeSolution(List<Node> path, double totalCost) {
+        this(path, totalCost, 0);
     }
 
     /**
@@ -24,7 +27,8 @@ public record MazeSolution(List<Node> path, double totalCost) {
      *
      * <p>
      * This method iterates through the path and computes the sum of costs between consecutive nodes
-     * based on the given CostFunc.
+     * based on the given CostFunc. Pass the function from {@code CostFuncType.createCostFunc(heightRange)}
+     * to read the costs from its shared table.
      * </p>
      *
      * @param costFunc the cost function to use for recalculating the path cost
@@ -40,11 +44,14 @@ public record MazeSolution(List<Node> path, double totalCost) {
             return 0.0; // No movement, hence no cost
         }
 
+        // Walks the path once, since solvers return linked lists without constant-time indexing
         double total = 0.0;
-        for (int i = 0; i < path.size() - 1; i++) {
-            Node current = path.get(i);
-            Node next = path.get(i + 1);
+        Iterator<Node> nodes = path.iterator();
+        Node current = nodes.next();
+        while (nodes.hasNext()) {
+            Node next = nodes.next();
             total += costFunc.calculateCost(current.height(), next.height());
+            current = next;
         }
         return total;
     }
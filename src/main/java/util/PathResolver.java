@@ -0,0 +1,26 @@
+package util;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class PathResolver {
+    /**
+     * Resolves a path against the working directory, refusing paths that lead out of it.
+     *
+     * @param path the path, relative to the working directory or absolute within it
+     * @return the normalized absolute path
+     * @throws SecurityException if the path leads out of the working directory
+     */
+    public static Path resolve(String path) {
+        Path baseDir = Paths.get(".").toAbsolutePath().normalize();
+        Path targetPath = baseDir.resolve(path).normalize();
+
+        // Check if the target path is within the base directory
+        if (!targetPath.startsWith(baseDir)) {
+            throw new SecurityException("Invalid path: Potential path traversal attempt detected.");
+        }
+        return targetPath;
+    }
+}
@@ -0,0 +1,69 @@
+package visuals;
+
+import maze.Node;
+import maze.generator.RowSink;
+import util.OutputHandler;
+
+/**
+ * Prints a streamed maze to the console one row at a time, in the text format of {@link maze.Maze#getMazeAsString}.
+ *
+ * <p>
+ * Streamed mazes are flat and unsolved, so cells are left blank. As there, the top boundary is drawn solid even
+ * where the first row opens an entrance. Only the lines of the current row are buffered,
+ * so memory depends on the width of the maze and not on its height.
+ * </p>
+ */
+public class MazeTextRenderer implements RowSink {
+    // The width of a cell whose height is 0, as in the text of a built maze
+    private static final int CELL_WIDTH = 3;
+
+    private final StringBuilder line;
+
+    /**
+     * Creates a renderer for rows of the given width.
+     *
+     * @param width the number of cells in a row
+     */
+    public MazeTextRenderer(int width) {
+        this.line = new StringBuilder((width + 1) * (CELL_WIDTH + 1) * 2);
+    }
+
+    @Override
+    public void accept(long row, byte[] walls) {
+        line.setLength(0);
+
+        // The top boundary is always solid, as in the text of a built maze
+        if (row == 0) {
+            appendTopBoundary(walls.length);
+        }
+
+        line.append('|');
+        for (byte cellWalls : walls) {
+            line.repeat(' ', CELL_WIDTH).append(hasWall(cellWalls, Node.Direction.EAST) ? '|' : ' ');
+        }
+        line.append('\n');
+        appendBoundary(walls, Node.Direction.SOUTH);
+
+        OutputHandler.print(line.toString());
+    }
+
+    private void appendTopBoundary(int width) {
+        line.append('+');
+        for (int x = 0; x < width; x++) {
+            line.repeat('-', CELL_WIDTH).append('+');
+        }
+        line.append('\n');
+    }
+
+    private void appendBoundary(byte[] walls, Node.Direction direction) {
+        line.append('+');
+        for (byte cellWalls : walls) {
+            line.repeat(hasWall(cellWalls, direction) ? '-' : ' ', CELL_WIDTH).append('+');
+        }
+        line.append('\n');
+    }
+
+    private static boolean hasWall(byte cellWalls, Node.Direction direction) {
+        return (cellWalls & direction.mask()) != 0;
+    }
+}
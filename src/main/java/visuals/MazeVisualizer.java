@@ -4,14 +4,14 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
 import javax.imageio.ImageIO;
 import maze.Maze;
 import maze.Node;
+import maze.grid.MazeGrid;
 import maze.solver.structs.MazeSolution;
 import util.OutputHandler;
+import util.PathResolver;
 
 /**
  * Utility class for visualizing the maze.
@@ -23,24 +23,23 @@ public class MazeVisualizer {
     private final int cellSize;
 
     public MazeVisualizer(Maze maze, int cellSize) {
-        Node[][] grid = maze.grid();
+        MazeGrid grid = maze.grid();
         this.cellSize = cellSize;
 
-        int height = grid.length;
-        int width = grid[0].length;
+        int height = grid.height();
+        int width = grid.width();
 
         // Determine min and max heights for color mapping
         int minHeight = Integer.MAX_VALUE;
         int maxHeight = Integer.MIN_VALUE;
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                int nodeHeight = grid[y][x].height();
-                if (nodeHeight < minHeight) {
-                    minHeight = nodeHeight;
-                }
-                if (nodeHeight > maxHeight) {
-                    maxHeight = nodeHeight;
-                }
+        int size = grid.size();
+        for (int cell = 0; cell < size; cell++) {
+            int nodeHeight = grid.heightAt(cell);
+            if (nodeHeight < minHeight) {
+                minHeight = nodeHeight;
+            }
+            if (nodeHeight > maxHeight) {
+                maxHeight = nodeHeight;
             }
         }
 
@@ -56,8 +55,8 @@ public class MazeVisualizer {
         // Draw heatmap
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                Node node = grid[y][x];
-                Color color = HeatMapColorMapper.getColorForHeight(node.height(), minHeight, maxHeight);
+                int nodeHeight = grid.heightAt(grid.index(x, y));
+                Color color = HeatMapColorMapper.getColorForHeight(nodeHeight, minHeight, maxHeight);
                 graphics.setColor(color);
                 graphics.fillRect(x * cellSize, y * cellSize, cellSize, cellSize);
             }
@@ -68,24 +67,24 @@ public class MazeVisualizer {
         graphics.setStroke(new BasicStroke(2));
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                Node node = grid[y][x];
+                int walls = grid.walls(grid.index(x, y));
                 int px = x * cellSize;
                 int py = y * cellSize;
 
                 // Draw north wall
-                if (node.walls().hasWall(Node.Direction.NORTH)) {
+                if ((walls & Node.Direction.NORTH.mask()) != 0) {
                     graphics.drawLine(px, py, px + cellSize, py);
                 }
                 // Draw south wall
-                if (node.walls().hasWall(Node.Direction.SOUTH)) {
+                if ((walls & Node.Direction.SOUTH.mask()) != 0) {
                     graphics.drawLine(px, py + cellSize, px + cellSize, py + cellSize);
                 }
                 // Draw west wall
-                if (node.walls().hasWall(Node.Direction.WEST)) {
+                if ((walls & Node.Direction.WEST.mask()) != 0) {
                     graphics.drawLine(px, py, px, py + cellSize);
                 }
                 // Draw east wall
-                if (node.walls().hasWall(Node.Direction.EAST)) {
+                if ((walls & Node.Direction.EAST.mask()) != 0) {
                     graphics.drawLine(px + cellSize, py, px + cellSize, py + cellSize);
                 }
             }
@@ -113,15 +112,7 @@ public class MazeVisualizer {
         graphics.dispose();
 
         try {
-            Path baseDir = Paths.get(".").toAbsolutePath().normalize();
-            Path targetPath = baseDir.resolve(path).normalize();
-
-            // Check if the target path is within the base directory
-            if (!targetPath.startsWith(baseDir)) {
-                throw new SecurityException("Invalid path: Potential path traversal attempt detected.");
-            }
-
-            ImageIO.write(img, "PNG", targetPath.toFile());
+            ImageIO.write(img, "PNG", PathResolver.resolve(path).toFile());
         } catch (Exception e) {
             OutputHandler.println(e.getMessage());
         }
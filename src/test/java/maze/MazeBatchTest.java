@@ -0,0 +1,139 @@
+package maze;
+
+import config.MazeConfig;
+import config.SurfaceConfig;
+import heightmap.providers.ProviderType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import maze.generator.GeneratorType;
+import maze.grid.MazeGrid;
+import maze.grid.StorageType;
+import maze.solver.SolverType;
+import maze.solver.functions.CostFuncType;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks the guarantees of {@link MazeBatch}: results in spec order, at most {@code parallelism} jobs at once,
+ * failures kept to their own job, and a batch that stops when its consumer throws.
+ */
+class MazeBatchTest {
+    private static final int PARALLELISM = 2;
+    private static final int JOBS = 8;
+    private static final int SMALL = 20;
+    private static final int LARGE = 400;
+    private static final int HEIGHT_RANGE = 10;
+    private static final long HOLD_MILLIS = 20;
+    private static final String CONSUMER_FAILED = "consumer failed";
+
+    @Test
+    void returnsResultsInSpecOrder() {
+        // Larger mazes first, so that jobs tend to end in the reverse order
+        List<MazeSpec> specs = new ArrayList<>();
+        for (int i = 0; i < JOBS; i++) {
+            specs.add(spec(LARGE - i * (LARGE - SMALL) / JOBS, StorageType.HEAP, CostFuncType.CONST));
+        }
+
+        List<MazeJobResult> results;
+        try (MazeBatch batch = new MazeBatch(PARALLELISM)) {
+            results = batch.run(specs);
+        }
+
+        assertThat(results).hasSize(JOBS);
+        for (int i = 0; i < JOBS; i++) {
+            MazeJobResult result = results.get(i);
+            assertThat(result.index()).isEqualTo(i);
+            assertThat(result.spec()).isSameAs(specs.get(i));
+            assertThat(result.succeeded()).isTrue();
+            assertThat(result.maze().grid().width()).isEqualTo(specs.get(i).maze().width());
+            result.maze().close();
+        }
+    }
+
+    @Test
+    void runsAtMostParallelismJobsAtOnce() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger mostRunning = new AtomicInteger();
+        List<MazeSpec> specs = Collections.nCopies(JOBS, spec(SMALL, StorageType.HEAP, CostFuncType.CONST));
+
+        try (MazeBatch batch = new MazeBatch(PARALLELISM)) {
+            // The consumer holds the slot of its job, so it counts the jobs in flight
+            batch.run(specs, result -> {
+                mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep();
+                running.decrementAndGet();
+                result.maze().close();
+            });
+        }
+
+        assertThat(mostRunning.get()).isEqualTo(PARALLELISM);
+    }
+
+    @Test
+    void failedJobDoesNotAffectTheOthers() {
+        // Dijkstra rejects the negative costs of falls
+        List<MazeSpec> specs = List.of(
+            spec(SMALL, StorageType.HEAP, CostFuncType.CONST),
+            spec(SMALL, StorageType.HEAP, CostFuncType.LINEAR),
+            spec(SMALL, StorageType.HEAP, CostFuncType.CONST)
+        );
+
+        List<MazeJobResult> results;
+        try (MazeBatch batch = new MazeBatch(PARALLELISM)) {
+            results = batch.run(specs);
+        }
+
+        assertThat(results.get(1).succeeded()).isFalse();
+        assertThat(results.get(1).maze()).isNull();
+        assertThat(results.get(1).error()).isInstanceOf(IllegalStateException.class);
+        for (int i : new int[] {0, 2}) {
+            assertThat(results.get(i).succeeded()).isTrue();
+            results.get(i).maze().close();
+        }
+    }
+
+    @Test
+    void consumerFailureStopsTheBatchAndClosesItsMaze() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<MazeGrid> grid = new AtomicReference<>();
+        List<MazeSpec> specs = Collections.nCopies(JOBS, spec(SMALL, StorageType.MAPPED, CostFuncType.CONST));
+
+        try (MazeBatch batch = new MazeBatch(1)) {
+            assertThatThrownBy(() -> batch.run(specs, result -> {
+                calls.incrementAndGet();
+                grid.set(result.maze().grid());
+                throw new IllegalArgumentException(CONSUMER_FAILED);
+            }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(CONSUMER_FAILED);
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+        // A closed mapping can no longer be read
+        assertThatThrownBy(() -> grid.get().walls(0)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static MazeSpec spec(int size, StorageType storage, CostFuncType costFunc) {
+        return new MazeSpec(
+            new MazeConfig(size, size, storage, size),
+            new SurfaceConfig(ProviderType.PERLIN_NOISE, HEIGHT_RANGE, 0, false),
+            GeneratorType.BACKTRACKER,
+            0,
+            SolverType.DIJKSTRA,
+            costFunc
+        );
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(HOLD_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
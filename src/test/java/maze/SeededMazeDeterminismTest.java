@@ -0,0 +1,152 @@
+package maze;
+
+import config.MazeConfig;
+import config.SurfaceConfig;
+import heightmap.providers.ProviderType;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import maze.generator.GeneratorType;
+import maze.grid.MazeGrid;
+import maze.grid.StorageType;
+import maze.solver.SolverType;
+import maze.solver.functions.CostFuncType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a seeded maze does not depend on the number of threads it is built with.
+ *
+ * <p>
+ * The parallelism of the common pool and the number of row bands are fixed when the JVM starts, so each level
+ * builds the mazes in a JVM of its own, started with that many processors, which prints the hashes of their walls
+ * and heights.
+ * </p>
+ */
+class SeededMazeDeterminismTest {
+    private static final long SEED = 0x5EEDL;
+    private static final int WIDTH = 301;
+    private static final int HEIGHT = 203;
+    private static final int TILE_SIZE = 64;
+    private static final int HEIGHT_RANGE = 10;
+    private static final int[] PARALLELISM = {1, 2, 3, 8};
+    private static final long TIMEOUT_MINUTES = 2;
+    private static final String PREFIX = "hash ";
+    private static final int HASH_MULTIPLIER = 31;
+
+    // Every parallel step of a seeded build: row bands of heightmaps, parallel Kruskal, recursive division,
+    // tiles, and loops, which every generator adds
+    private static final List<Case> CASES = List.of(
+        new Case(GeneratorType.PARALLEL_KRUSKAL, ProviderType.PERLIN_NOISE, 0),
+        new Case(GeneratorType.RECURSIVE_DIVISION, ProviderType.RANDOM, 0),
+        new Case(GeneratorType.BACKTRACKER, ProviderType.SIMPLEX_NOISE, TILE_SIZE),
+        new Case(GeneratorType.ELLER, ProviderType.VECTOR_PERLIN_NOISE, 0)
+    );
+
+    @TempDir
+    static Path tempDir;
+
+    @Test
+    void sameSeedBuildsSameMazeAtAnyParallelism() throws IOException, InterruptedException {
+        List<String> expected = hashes();
+        assertThat(expected).hasSize(CASES.size());
+
+        for (int parallelism : PARALLELISM) {
+            assertThat(hashesAt(parallelism))
+                .as("hashes with %d processors", parallelism)
+                .isEqualTo(expected);
+        }
+    }
+
+    /**
+     * Prints the hashes of the mazes built in this JVM, for {@link #hashesAt}.
+     *
+     * @param args unused
+     */
+    @SuppressWarnings("UncommentedMain")
+    public static void main(String[] args) {
+        hashes().forEach(System.out::println);
+    }
+
+    @Test
+    void lazySurfaceBuildsTheSameMazeAsAFilledOne() {
+        for (Case c : CASES) {
+            if (c.surface() == ProviderType.RANDOM) {
+                continue; // Only procedural surfaces are lazy
+            }
+            assertThat(hash(c, true)).as("lazy %s", c).isEqualTo(hash(c, false));
+        }
+    }
+
+    private static List<String> hashes() {
+        List<String> hashes = new ArrayList<>();
+        for (Case c : CASES) {
+            hashes.add(hash(c, false));
+        }
+        return hashes;
+    }
+
+    private static String hash(Case c, boolean lazy) {
+        MazeSpec spec = new MazeSpec(
+            new MazeConfig(HEIGHT, WIDTH, StorageType.HEAP, SEED),
+            // A threshold of 1 fills every heightmap by row bands
+            new SurfaceConfig(c.surface(), HEIGHT_RANGE, 1, lazy),
+            c.generator(),
+            c.tileSize(),
+            SolverType.DIJKSTRA,
+            CostFuncType.CONST
+        );
+        try (Maze maze = MazeFactory.createSolvedMaze(spec)) {
+            MazeGrid grid = maze.grid();
+            long wallHash = 1;
+            long heightHash = 1;
+            for (int cell = 0; cell < grid.size(); cell++) {
+                wallHash = HASH_MULTIPLIER * wallHash + grid.walls(cell);
+                heightHash = HASH_MULTIPLIER * heightHash + grid.heightAt(cell);
+            }
+            return PREFIX + c + " walls=" + wallHash + " heights=" + heightHash;
+        }
+    }
+
+    // Builds the mazes in a new JVM that sees the given number of processors
+    private static List<String> hashesAt(int parallelism) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-XX:ActiveProcessorCount=" + parallelism);
+        command.add("-Djava.util.concurrent.ForkJoinPool.common.parallelism=" + parallelism);
+        // Module and preview options, such as --add-modules jdk.incubator.vector
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.startsWith("--")) {
+                command.add(argument);
+            }
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(SeededMazeDeterminismTest.class.getName());
+
+        // Started in the working directory of the tests, so it reads the same config.toml
+        Path log = tempDir.resolve("parallelism-" + parallelism + ".log");
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        boolean finished = process.waitFor(TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        if (!finished) {
+            process.destroyForcibly();
+        }
+        String output = Files.readString(log);
+        assertThat(finished).as("JVM finished in time, having printed:%n%s", output).isTrue();
+        assertThat(process.exitValue()).as("exit code of the JVM, which printed:%n%s", output).isZero();
+
+        return output.lines().filter(line -> line.startsWith(PREFIX)).toList();
+    }
+
+    private record Case(GeneratorType generator, ProviderType surface, int tileSize) {
+        @Override
+        public String toString() {
+            return generator + "/" + surface + "/" + tileSize;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package maze.generator.algorithms;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import maze.Node.Direction;
+import maze.grid.MazeGrid;
+import maze.grid.PackedMazeGrid;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that parallel Kruskal carves a perfect maze whatever the number of threads, and that it opens the same
+ * walls as sequential Kruskal over the same shuffle.
+ *
+ * <p>
+ * The generator runs in pools of several sizes, since its parallel streams run in the pool of the thread that
+ * starts them.
+ * </p>
+ */
+class ParallelKruskalMazeGeneratorTest {
+    private static final long SEED = 0x5EEDL;
+    // Over 65536 walls, so that the walls take several rounds of reservations
+    private static final int WIDTH = 401;
+    private static final int HEIGHT = 301;
+    // Just over 2^30 cells, whose walls cannot be numbered in an int
+    private static final int HUGE_WIDTH = 65_536;
+    private static final int HUGE_HEIGHT = 16_385;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 8})
+    void carvesASpanningTree(int parallelism) throws InterruptedException, ExecutionException {
+        MazeGrid grid = carve(parallelism);
+        int size = grid.size();
+
+        int openings = 0;
+        for (int cell = 0; cell < size; cell++) {
+            int x = cell % WIDTH;
+            int y = cell / WIDTH;
+            // Neighbors agree on the walls between them, and the border stays closed
+            if (x < WIDTH - 1) {
+                assertThat(grid.hasWall(cell + 1, Direction.WEST))
+                    .as("WEST wall of the EAST neighbor of %d", cell)
+                    .isEqualTo(grid.hasWall(cell, Direction.EAST));
+            } else {
+                assertThat(grid.hasWall(cell, Direction.EAST)).as("EAST border at %d", cell).isTrue();
+            }
+            if (y < HEIGHT - 1) {
+                assertThat(grid.hasWall(cell + WIDTH, Direction.NORTH))
+                    .as("NORTH wall of the SOUTH neighbor of %d", cell)
+                    .isEqualTo(grid.hasWall(cell, Direction.SOUTH));
+            } else {
+                assertThat(grid.hasWall(cell, Direction.SOUTH)).as("SOUTH border at %d", cell).isTrue();
+            }
+            if (x == 0) {
+                assertThat(grid.hasWall(cell, Direction.WEST)).as("WEST border at %d", cell).isTrue();
+            }
+            if (y == 0) {
+                assertThat(grid.hasWall(cell, Direction.NORTH)).as("NORTH border at %d", cell).isTrue();
+            }
+
+            openings += Integer.bitCount(grid.passages(cell) & (Direction.EAST.mask() | Direction.SOUTH.mask()));
+        }
+
+        // A connected graph with one edge less than its nodes is a tree
+        assertThat(openings).isEqualTo(size - 1);
+        assertThat(reachable(grid)).isEqualTo(size);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 8})
+    void opensTheWallsOfSequentialKruskal(int parallelism) throws InterruptedException, ExecutionException {
+        MazeGrid grid = carve(parallelism);
+
+        int[] walls = new int[grid.size()];
+        for (int cell = 0; cell < walls.length; cell++) {
+            walls[cell] = grid.walls(cell);
+        }
+        assertThat(walls).isEqualTo(sequentialKruskal(new SplittableRandom(SEED)));
+    }
+
+    @Test
+    void rejectsMazesWhoseWallsCannotBeNumbered() {
+        ParallelKruskalMazeGenerator generator = new ParallelKruskalMazeGenerator(new SplittableRandom(SEED));
+
+        assertThatThrownBy(() -> generator.carve(new DimensionsOnlyGrid(HUGE_WIDTH, HUGE_HEIGHT)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("too large");
+    }
+
+    private static MazeGrid carve(int parallelism) throws InterruptedException, ExecutionException {
+        MazeGrid grid = new PackedMazeGrid(WIDTH, HEIGHT);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> new ParallelKruskalMazeGenerator(new SplittableRandom(SEED)).carve(grid)).get();
+        } finally {
+            pool.shutdown();
+        }
+        return grid;
+    }
+
+    // Counts the cells reachable from the first one through open walls
+    private static int reachable(MazeGrid grid) {
+        boolean[] seen = new boolean[grid.size()];
+        int[] queue = new int[grid.size()];
+        int tail = 0;
+        queue[tail++] = 0;
+        seen[0] = true;
+        for (int head = 0; head < tail; head++) {
+            int cell = queue[head];
+            for (Direction direction : Direction.values()) {
+                if ((grid.passages(cell) & direction.mask()) != 0) {
+                    int neighbor = grid.neighbor(cell, direction);
+                    if (!seen[neighbor]) {
+                        seen[neighbor] = true;
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+        }
+        return tail;
+    }
+
+    // Walls of every cell after sequential Kruskal over the walls in the order the generator shuffles them
+    private static int[] sequentialKruskal(SplittableRandom random) {
+        int size = WIDTH * HEIGHT;
+
+        // EAST and SOUTH walls packed as cell << 1 | side, in the order of the generator
+        int[] order = new int[(WIDTH - 1) * HEIGHT + WIDTH * (HEIGHT - 1)];
+        int count = 0;
+        for (int cell = 0; cell < size; cell++) {
+            if (cell % WIDTH < WIDTH - 1) {
+                order[count++] = cell << 1;
+            }
+            if (cell / WIDTH < HEIGHT - 1) {
+                order[count++] = cell << 1 | 1;
+            }
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int wall = order[i];
+            order[i] = order[j];
+            order[j] = wall;
+        }
+
+        int[] parent = new int[size];
+        int[] walls = new int[size];
+        for (int cell = 0; cell < size; cell++) {
+            parent[cell] = cell;
+            walls[cell] = MazeGrid.ALL_WALLS;
+        }
+        for (int wall : order) {
+            int cell = wall >>> 1;
+            boolean east = (wall & 1) == 0;
+            int neighbor = east ? cell + 1 : cell + WIDTH;
+            int a = find(parent, cell);
+            int b = find(parent, neighbor);
+            if (a != b) {
+                parent[a] = b;
+                walls[cell] &= ~(east ? Direction.EAST : Direction.SOUTH).mask();
+                walls[neighbor] &= ~(east ? Direction.WEST : Direction.NORTH).mask();
+            }
+        }
+        return walls;
+    }
+
+    private static int find(int[] parent, int x) {
+        int current = x;
+        while (parent[current] != current) {
+            parent[current] = parent[parent[current]];
+            current = parent[current];
+        }
+        return current;
+    }
+
+    // A grid that only knows its dimensions, for sizes that would not fit in memory
+    private record DimensionsOnlyGrid(int width, int height) implements MazeGrid {
+        @Override
+        public int heightAt(int cell) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setHeight(int cell, int value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int walls(int cell) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setWalls(int cell, int walls) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package maze.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+import maze.grid.MazeGrid;
+import maze.grid.PackedMazeGrid;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Round trips of the binary maze format, and the errors for files that are not in it.
+ *
+ * <p>
+ * Files must be within the working directory, so they are written to a fresh directory in {@code target}.
+ * </p>
+ */
+class MazeFileTest {
+    // An odd number of cells, so the last byte of walls holds a single cell
+    private static final int WIDTH = 7;
+    private static final int HEIGHT = 5;
+    private static final long SEED = -0x5EEDL;
+    private static final int BYTE_SPAN = 0xFF;
+    private static final int SHORT_SPAN = 0xFFFF;
+    private static final int LOW_HEIGHT = -30_000;
+    private static final long VERSION_OFFSET = 4;
+    private static final String FILE = "maze.bin";
+
+    private Path directory;
+
+    @BeforeEach
+    void createDirectory() throws IOException {
+        Path target = Files.createDirectories(Path.of("target"));
+        directory = Path.of("").toAbsolutePath().relativize(
+            Files.createTempDirectory(target.toAbsolutePath(), "maze-file")
+        );
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void roundTripsHeightsThatFitInOneByte() throws IOException {
+        MazeGrid grid = randomGrid(LOW_HEIGHT, BYTE_SPAN);
+
+        String path = write(grid);
+
+        assertThat(Files.size(directory.resolve(FILE))).isEqualTo(fileSize(1));
+        assertLoadsAs(path, grid);
+    }
+
+    @Test
+    void roundTripsHeightsThatNeedTwoBytes() throws IOException {
+        MazeGrid grid = randomGrid(LOW_HEIGHT, SHORT_SPAN);
+
+        String path = write(grid);
+
+        assertThat(Files.size(directory.resolve(FILE))).isEqualTo(fileSize(2));
+        assertLoadsAs(path, grid);
+    }
+
+    @Test
+    void refusesHeightsThatNeedMoreThanTwoBytes() {
+        MazeGrid grid = randomGrid(LOW_HEIGHT, SHORT_SPAN + 1);
+
+        assertThatThrownBy(() -> write(grid)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void roundTripsStreamedRows() {
+        MazeGrid grid = randomGrid(0, 0);
+        String path = directory.resolve(FILE).toString();
+
+        try (MazeFileWriter writer = MazeFile.writer(WIDTH, HEIGHT, SEED, path)) {
+            byte[] row = new byte[WIDTH];
+            for (int y = 0; y < HEIGHT; y++) {
+                for (int x = 0; x < WIDTH; x++) {
+                    row[x] = (byte) grid.walls(grid.index(x, y));
+                }
+                writer.accept(y, row);
+            }
+        }
+
+        assertLoadsAs(path, grid);
+    }
+
+    @Test
+    void refusesFilesWithoutTheMagicNumber() throws IOException {
+        String path = write(randomGrid(0, BYTE_SPAN));
+        patch(ByteBuffer.wrap("MAZY".getBytes(StandardCharsets.US_ASCII)), 0);
+
+        assertThatThrownBy(() -> MazeFile.load(path))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Not a maze file");
+    }
+
+    @Test
+    void refusesOtherVersions() throws IOException {
+        String path = write(randomGrid(0, BYTE_SPAN));
+        short version = MazeFileHeader.VERSION + 1;
+        patch(ByteBuffer.allocate(Short.BYTES).order(ByteOrder.LITTLE_ENDIAN).putShort(0, version), VERSION_OFFSET);
+
+        assertThatThrownBy(() -> MazeFile.load(path))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unsupported maze file version: " + version);
+    }
+
+    // Random walls, and heights from low to low + span including both ends
+    private static MazeGrid randomGrid(int low, int span) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        MazeGrid grid = new PackedMazeGrid(WIDTH, HEIGHT);
+        for (int cell = 0; cell < grid.size(); cell++) {
+            grid.setWalls(cell, random.nextInt(MazeGrid.ALL_WALLS + 1));
+            grid.setHeight(cell, low + random.nextInt(span + 1));
+        }
+        grid.setHeight(0, low);
+        grid.setHeight(grid.size() - 1, low + span);
+        return grid;
+    }
+
+    private String write(MazeGrid grid) {
+        String path = directory.resolve(FILE).toString();
+        MazeFile.write(grid, SEED, path);
+        return path;
+    }
+
+    private static void assertLoadsAs(String path, MazeGrid expected) {
+        try (MazeFileGrid loaded = MazeFile.load(path)) {
+            assertThat(loaded.width()).isEqualTo(WIDTH);
+            assertThat(loaded.height()).isEqualTo(HEIGHT);
+            assertThat(loaded.seed()).isEqualTo(SEED);
+            for (int cell = 0; cell < expected.size(); cell++) {
+                assertThat(loaded.walls(cell)).as("walls of cell %d", cell).isEqualTo(expected.walls(cell));
+                assertThat(loaded.heightAt(cell)).as("height of cell %d", cell).isEqualTo(expected.heightAt(cell));
+            }
+        }
+    }
+
+    private static long fileSize(int heightBytes) {
+        long cells = (long) WIDTH * HEIGHT;
+        return MazeFileHeader.SIZE + (cells + 1) / 2 + cells * heightBytes;
+    }
+
+    private void patch(ByteBuffer bytes, long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve(FILE), StandardOpenOption.WRITE)) {
+            channel.write(bytes, offset);
+        }
+    }
+}
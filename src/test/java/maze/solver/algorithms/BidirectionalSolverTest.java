@@ -0,0 +1,75 @@
+package maze.solver.algorithms;
+
+import java.util.SplittableRandom;
+import maze.generator.algorithms.BacktrackerMazeGenerator;
+import maze.grid.MazeGrid;
+import maze.grid.PackedMazeGrid;
+import maze.solver.functions.ConstantCostFunc;
+import maze.solver.functions.CostFunc;
+import maze.solver.structs.MazeSolution;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that the parallel bidirectional search finds the same paths as the sequential one, and that a failure on
+ * either of its threads is thrown from the solve instead of being taken for a missing path.
+ */
+class BidirectionalSolverTest {
+    private static final int SIZE = 101;
+    private static final String BACKWARD_THREAD = "maze-backward-search";
+
+    @Test
+    void parallelSearchFindsTheCostOfTheSequentialOne() {
+        MazeGrid grid = carvedGrid();
+
+        MazeSolution sequential = new BidirectionalSolver(new ConstantCostFunc(), false, true).solve(grid);
+        MazeSolution parallel = new BidirectionalSolver(new ConstantCostFunc(), true, true).solve(grid);
+
+        assertThat(sequential).isNotNull();
+        assertThat(parallel).isNotNull();
+        assertThat(parallel.totalCost()).isEqualTo(sequential.totalCost());
+    }
+
+    @Test
+    void failureOfTheBackwardSearchIsThrown() {
+        MazeGrid grid = carvedGrid();
+        BidirectionalSolver solver = new BidirectionalSolver(failingOn(BACKWARD_THREAD), true, true);
+
+        assertThatThrownBy(() -> solver.solve(grid))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage(BACKWARD_THREAD);
+    }
+
+    @Test
+    void failureOfTheForwardSearchIsThrownAfterTheBackwardSearchStops() {
+        MazeGrid grid = carvedGrid();
+        String forwardThread = Thread.currentThread().getName();
+        BidirectionalSolver solver = new BidirectionalSolver(failingOn(forwardThread), true, true);
+
+        assertThatThrownBy(() -> solver.solve(grid))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage(forwardThread);
+        assertThat(Thread.getAllStackTraces().keySet())
+            .noneMatch(thread -> thread.getName().equals(BACKWARD_THREAD));
+    }
+
+    private static MazeGrid carvedGrid() {
+        MazeGrid grid = new PackedMazeGrid(SIZE, SIZE);
+        new BacktrackerMazeGenerator(new SplittableRandom(1)).carve(grid);
+        return grid;
+    }
+
+    // Costs 1 per move, but fails when a move is costed on the named thread
+    private static CostFunc failingOn(String threadName) {
+        return new ConstantCostFunc() {
+            @Override
+            public double calculateCost(int currHeight, int nextHeight) {
+                if (Thread.currentThread().getName().equals(threadName)) {
+                    throw new IllegalStateException(threadName);
+                }
+                return super.calculateCost(currHeight, nextHeight);
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package util;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PathResolverTest {
+    private static final Path WORKING_DIRECTORY = Path.of("").toAbsolutePath().normalize();
+    private static final String FILE = "maze.bin";
+
+    @Test
+    void resolvesPathsWithinTheWorkingDirectory() {
+        assertThat(PathResolver.resolve("out/../" + FILE)).isEqualTo(WORKING_DIRECTORY.resolve(FILE));
+    }
+
+    @Test
+    void refusesPathsThatLeaveTheWorkingDirectory() {
+        assertThatThrownBy(() -> PathResolver.resolve("../" + FILE)).isInstanceOf(SecurityException.class);
+        String outside = WORKING_DIRECTORY.resolveSibling(FILE).toString();
+        assertThatThrownBy(() -> PathResolver.resolve(outside)).isInstanceOf(SecurityException.class);
+    }
+}